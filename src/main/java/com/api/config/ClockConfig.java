@@ -0,0 +1,26 @@
+package com.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Class ClockConfig
+ *
+ * Configuration class that exposes the {@link Clock} used for token timestamps and expirations.
+ * A single UTC clock is cheaper than building calendars per call and can be replaced in tests.
+ */
+@Configuration
+public class ClockConfig {
+
+    /**
+     * Creates the system UTC {@link Clock} as a Spring bean.
+     *
+     * @return the system clock in UTC.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
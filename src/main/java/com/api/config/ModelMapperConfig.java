@@ -9,6 +9,8 @@ import org.springframework.context.annotation.Configuration;
  *
  * Configuration class for setting up a {@link ModelMapper} bean in the Spring application context.
  * The {@link ModelMapper} is used for object mapping, allowing the conversion of one Java object to another.
+ * The services use the generated mappers of the com.api.mapper package instead; the bean stays available
+ * for the tests and the mapping benchmarks.
  */
 @Configuration
 public class ModelMapperConfig {
@@ -0,0 +1,70 @@
+package com.api.config;
+
+import com.api.security.LegacyPlaintextPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Class PasswordEncoderConfig
+ *
+ * Configuration class that exposes the {@link PasswordEncoder} for user passwords.
+ * New hashes are BCrypt with a cost that is either configured or calibrated at startup, so that one
+ * verification takes about the configured target time on this machine. Hashes with a lower cost
+ * and passwords still stored as plain text are matched too and reported for rehashing.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+
+    /**
+     * Creates the delegating password encoder as a Spring bean.
+     *
+     * @param strength the fixed BCrypt cost, or 0 to calibrate it.
+     * @param targetMillis the target time of one verification when the cost is calibrated.
+     * @return the password encoder.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt.strength:0}") int strength,
+                                           @Value("${security.password.bcrypt.target-ms:250}") long targetMillis) {
+        final int cost = strength > 0 ? strength : calibrate(targetMillis);
+        final DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT,
+                Map.of(BCRYPT, new BCryptPasswordEncoder(cost)));
+        encoder.setDefaultPasswordEncoderForMatches(new LegacyPlaintextPasswordEncoder(encoder));
+        return encoder;
+    }
+
+    /**
+     * Finds the highest BCrypt cost whose hashing time does not exceed the target.
+     * Every cost step doubles the time, so the measurement stops right after the target is passed.
+     *
+     * @param targetMillis the target time of one verification.
+     * @return the calibrated cost.
+     */
+    static int calibrate(long targetMillis) {
+        int strength = MIN_STRENGTH;
+        new BCryptPasswordEncoder(strength).encode("calibration");
+        while (strength < MAX_STRENGTH) {
+            final BCryptPasswordEncoder candidate = new BCryptPasswordEncoder(strength + 1);
+            final long started = System.nanoTime();
+            candidate.encode("calibration");
+            final long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            strength++;
+        }
+        log.info("BCrypt cost calibrated to {} for a target of {} ms", strength, targetMillis);
+        return strength;
+    }
+}
@@ -1,11 +1,12 @@
 package com.api.config;
 
+import com.api.security.AccessPolicies;
 import com.api.security.JwtAuthenticationEntryPoint;
 import com.api.security.JwtFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -27,17 +28,34 @@ import java.util.Arrays;
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
-@EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    /**
+     * The API documentation endpoints. The {@link JwtFilter} does not parse tokens on them.
+     */
+    public static final String[] DOCUMENTATION_ENDPOINTS = {
+            "/v1/task-management-api-docs/**", "/swagger-ui/**", "/v1/task-management-api-docs"
+    };
+
+    /**
+     * Endpoints that are permitted for everyone. The {@link JwtFilter} still parses tokens on the auth endpoints,
+     * so that the login policy can deny users who are already authenticated.
+     */
+    public static final String[] PUBLIC_ENDPOINTS = {
+            "/auth/login", "/auth/newAccessToken",
+            "/v1/task-management-api-docs/**", "/swagger-ui/**", "/v1/task-management-api-docs"
+    };
+
     private final JwtFilter jwtFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final AccessPolicies accessPolicies;
 
     /**
      * Configures the HTTP security settings for the application.
      * - Disables basic authentication and CSRF protection.
      * - Configures session management to be stateless (no session state is maintained on the server).
      * - Defines authorized URLs that are publicly accessible.
+     * - Registers the {@link AccessPolicies} of the admin and task executor endpoints; any other request must be authenticated.
      * - Adds the JWT filter after the `UsernamePasswordAuthenticationFilter` to intercept requests.
      * - Configures CORS settings for handling cross-origin requests.
      *
@@ -56,10 +74,20 @@ public class SecurityConfig {
                     )
                     .authorizeHttpRequests(
                             auth -> auth
-                                    .requestMatchers(
-                                            "/auth/login", "/auth/newAccessToken",
-                                            "/v1/task-management-api-docs/**", "/swagger-ui/**", "/v1/task-management-api-docs")
+                                    .requestMatchers(HttpMethod.POST, "/auth/login")
+                                    .access(accessPolicies.notAuthenticated())
+                                    .requestMatchers(PUBLIC_ENDPOINTS)
                                     .permitAll()
+                                    .requestMatchers(HttpMethod.POST, "/tasks/new").access(accessPolicies.admin())
+                                    .requestMatchers(HttpMethod.POST, "/tasks/batch").access(accessPolicies.admin())
+                                    .requestMatchers(HttpMethod.PUT, "/tasks").access(accessPolicies.admin())
+                                    .requestMatchers(HttpMethod.DELETE, "/tasks").access(accessPolicies.admin())
+                                    .requestMatchers(HttpMethod.PATCH, "/tasks/batch").authenticated()
+                                    .requestMatchers(HttpMethod.PATCH, "/tasks/{taskId}").access(accessPolicies.admin())
+                                    .requestMatchers(HttpMethod.PATCH, "/tasks/{taskId}/status")
+                                    .access(accessPolicies.adminOrTaskExecutor())
+                                    .requestMatchers("/comments/task/{taskId}")
+                                    .access(accessPolicies.adminOrTaskExecutor())
                                     .anyRequest().authenticated()
                     )
                     .addFilterAfter(jwtFilter, UsernamePasswordAuthenticationFilter.class)
@@ -0,0 +1,16 @@
+package com.api.config.enums;
+
+/**
+ * Class JwtClaimProfile
+ *
+ * Enum representing the set of claims written into the access tokens.
+ * The profile is configured per deployment with the "jwt.claims.profile" property.
+ *
+ * <ul>
+ *     <li><b>FULL</b> - sub, iat, exp, login, fullName and role (the original token content).</li>
+ *     <li><b>COMPACT</b> - sub, iat, exp and role only; "login" duplicates "sub" and "fullName" is not used by the API.</li>
+ * </ul>
+ */
+public enum JwtClaimProfile {
+    FULL, COMPACT
+}
@@ -4,6 +4,7 @@ import com.api.dto.jwt.JwtRequestDto;
 import com.api.dto.jwt.JwtResponseDto;
 import com.api.dto.jwt.RefreshJwtRequestDto;
 import com.api.dto.error.ErrorMessageResponseDto;
+import com.api.security.JwtAuthentication;
 import com.api.service.auth.AuthServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,7 +18,6 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -46,7 +46,6 @@ public class AuthController {
      */
     @Operation(summary = "log in")
     @PostMapping("/login")
-    @PreAuthorize("!isAuthenticated()")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to log in", content = @Content(schema = @Schema(implementation = JwtResponseDto.class), mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Bad request (non existed user, wrong password)", content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class), mediaType = "application/json")),
@@ -97,13 +96,13 @@ public class AuthController {
 
     /**
      * Endpoint for user logout.
-     * Invalidates the current refresh token and logs the user out.
+     * Invalidates the current refresh token, revokes the access token of the request and logs the user out.
      *
      * @param RefreshJwtRequestDto The request body containing the refresh token.
+     * @param authentication The authentication built from the access token of the request.
      */
     @Operation(summary = "log out")
     @DeleteMapping("/logout")
-    @PreAuthorize("isAuthenticated()")
     @SecurityRequirement(name = "JWT")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to log out"),
@@ -112,8 +111,9 @@ public class AuthController {
     }
     )
     public void logout(@Parameter(description = "refresh user token inside the request body", required = true)
-            @RequestBody @Valid @NotNull RefreshJwtRequestDto RefreshJwtRequestDto){
-        authServiceImpl.logout(RefreshJwtRequestDto.getRefreshJwtRequest());
+            @RequestBody @Valid @NotNull RefreshJwtRequestDto RefreshJwtRequestDto,
+            @Parameter(hidden = true) JwtAuthentication authentication){
+        authServiceImpl.logout(RefreshJwtRequestDto.getRefreshJwtRequest(), authentication);
     }
 
 }
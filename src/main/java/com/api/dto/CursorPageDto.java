@@ -0,0 +1,27 @@
+package com.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Class CursorPageDto
+ *
+ * Data Transfer Object (DTO) representing one page of a keyset (cursor) listing.
+ * The next page is requested with the returned cursor, so the page latency does not grow with the depth
+ * and rows inserted meanwhile do not shift the following pages.
+ */
+public record CursorPageDto<T>(
+
+        /**
+         * The items of the page, ordered by id.
+         */
+        @Schema(description = "page items ordered by id")
+        List<T> content,
+
+        /**
+         * The opaque cursor of the next page, or null if this is the last page.
+         */
+        @Schema(description = "opaque cursor of the next page, null on the last page",
+                example = "VQ6EAOKbQdSnFkRmVUQAAA")
+        String nextCursor
+) {}
@@ -0,0 +1,42 @@
+package com.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Class TaskBatchItemResultDto
+ *
+ * Data Transfer Object (DTO) representing the result of one item of a bulk task creation.
+ * An item is either created, with the id assigned to the new task, or rejected with the reasons.
+ */
+public record TaskBatchItemResultDto(
+
+        /**
+         * The position of the item in the request, starting with 0.
+         */
+        @Schema(description = "position of the item in the request", example = "0")
+        int index,
+
+        /**
+         * The id of the created task, or null if the item was rejected.
+         */
+        @Schema(description = "id of the created task, null if the item was rejected",
+                example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        /**
+         * The reasons the item was rejected; empty if it was created.
+         */
+        @Schema(description = "reasons the item was rejected, empty if it was created")
+        List<String> errors
+) {
+
+    public static TaskBatchItemResultDto created(int index, UUID id) {
+        return new TaskBatchItemResultDto(index, id, List.of());
+    }
+
+    public static TaskBatchItemResultDto rejected(int index, List<String> errors) {
+        return new TaskBatchItemResultDto(index, null, errors);
+    }
+}
@@ -0,0 +1,31 @@
+package com.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Class TaskBatchResultDto
+ *
+ * Data Transfer Object (DTO) representing the result of a bulk task creation:
+ * the number of created and rejected items and the result of every item, in request order.
+ */
+public record TaskBatchResultDto(
+
+        /**
+         * The number of created tasks.
+         */
+        @Schema(description = "number of created tasks", example = "2")
+        int created,
+
+        /**
+         * The number of rejected items.
+         */
+        @Schema(description = "number of rejected items", example = "0")
+        int rejected,
+
+        /**
+         * The result of every item, in request order.
+         */
+        @Schema(description = "result of every item, in request order")
+        List<TaskBatchItemResultDto> items
+) {}
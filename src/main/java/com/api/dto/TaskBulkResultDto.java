@@ -0,0 +1,37 @@
+package com.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Class TaskBulkResultDto
+ *
+ * Data Transfer Object (DTO) representing the result of a change of many tasks:
+ * how many of the selected tasks were changed, already had the values or could not be changed by the caller,
+ * and how many of the given ids have no task.
+ */
+public record TaskBulkResultDto(
+
+        /**
+         * The number of changed tasks.
+         */
+        @Schema(description = "number of changed tasks", example = "40")
+        int changed,
+
+        /**
+         * The number of tasks that already had the new values.
+         */
+        @Schema(description = "number of tasks that already had the new values", example = "2")
+        int unchanged,
+
+        /**
+         * The number of given ids of tasks the caller may not change; always 0 for a filter.
+         */
+        @Schema(description = "number of given ids of tasks the caller may not change", example = "0")
+        int denied,
+
+        /**
+         * The number of given ids without a task.
+         */
+        @Schema(description = "number of given ids without a task", example = "0")
+        int notFound
+) {}
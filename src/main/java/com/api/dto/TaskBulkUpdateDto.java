@@ -0,0 +1,45 @@
+package com.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Class TaskBulkUpdateDto
+ *
+ * Data Transfer Object (DTO) representing a change of many tasks at once.
+ * The tasks are selected either by their ids or by a filter, and get the new status, the new executor or both.
+ */
+public record TaskBulkUpdateDto(
+
+        /**
+         * The ids of the tasks to change; either the ids or the filter must be given.
+         */
+        @Schema(description = "ids of the tasks to change, instead of the filter")
+        List<@NotNull(message = "Task id must not be null") UUID> ids,
+
+        /**
+         * The filter selecting the tasks to change; either the ids or the filter must be given.
+         */
+        @Valid
+        @Schema(description = "filter selecting the tasks to change, instead of the ids")
+        TaskFilterDto filter,
+
+        /**
+         * The new status of the tasks, optional.
+         */
+        @Pattern(regexp = "^(pending|in progress|completed)$",
+                message = "Statuses that are acceptable: pending|in progress|completed")
+        @Schema(description = "new status: pending|in progress|completed", example = "completed")
+        String status,
+
+        /**
+         * The id of the new executor of the tasks, optional; only an admin can reassign tasks.
+         */
+        @Schema(description = "new executor id - UUID (only for admin)",
+                example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID executorId
+) {}
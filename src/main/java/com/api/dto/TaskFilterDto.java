@@ -0,0 +1,36 @@
+package com.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import java.util.UUID;
+
+/**
+ * Class TaskFilterDto
+ *
+ * Data Transfer Object (DTO) representing the selection of tasks by their current values.
+ * A task is selected if it has every given value; the missing ones are not checked.
+ */
+public record TaskFilterDto(
+
+        /**
+         * The id of the creator of the selected tasks.
+         */
+        @Schema(description = "creator id of the selected tasks - UUID",
+                example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID creatorId,
+
+        /**
+         * The id of the executor of the selected tasks.
+         */
+        @Schema(description = "executor id of the selected tasks - UUID",
+                example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID executorId,
+
+        /**
+         * The current status of the selected tasks.
+         */
+        @Pattern(regexp = "^(pending|in progress|completed)$",
+                message = "Statuses that are acceptable: pending|in progress|completed")
+        @Schema(description = "current status of the selected tasks: pending|in progress|completed", example = "in progress")
+        String status
+) {}
@@ -0,0 +1,46 @@
+package com.api.dto.view;
+
+import com.api.config.enums.Role;
+import com.api.dto.CommentDto;
+import java.util.UUID;
+
+/**
+ * Class CommentView
+ *
+ * Read-only view of a comment selected straight from the database by a JPQL constructor expression
+ * (see {@link com.api.repository.CommentRepository#COMMENT_VIEW}), without creating entities.
+ */
+public record CommentView(
+
+        /**
+         * The comment id.
+         */
+        UUID id,
+
+        /**
+         * The comment text.
+         */
+        String text,
+
+        /**
+         * The author of the comment.
+         */
+        UserSummary author
+) {
+
+    /**
+     * Flat constructor used by the constructor expression, since JPQL cannot nest constructors.
+     */
+    public CommentView(UUID id, String text, UUID authorId, String authorFullName, String authorEmail, Role authorRole) {
+        this(id, text, new UserSummary(authorId, authorFullName, authorEmail, authorRole));
+    }
+
+    /**
+     * Converts the view into the DTO returned by the endpoints.
+     *
+     * @return a new {@link CommentDto}.
+     */
+    public CommentDto toDto() {
+        return new CommentDto(id, text, author.toDto());
+    }
+}
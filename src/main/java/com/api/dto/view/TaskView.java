@@ -0,0 +1,71 @@
+package com.api.dto.view;
+
+import com.api.config.enums.Role;
+import com.api.dto.TaskDto;
+import java.util.UUID;
+
+/**
+ * Class TaskView
+ *
+ * Read-only view of a task selected straight from the database by a JPQL constructor expression
+ * (see {@link com.api.repository.TaskRepository#TASK_VIEW}). No entity is created for it, so the
+ * persistence context keeps neither the task nor its users and nothing is dirty-checked.
+ */
+public record TaskView(
+
+        /**
+         * The task id.
+         */
+        UUID id,
+
+        /**
+         * The task title.
+         */
+        String title,
+
+        /**
+         * The task description.
+         */
+        String description,
+
+        /**
+         * The task status.
+         */
+        String status,
+
+        /**
+         * The task priority.
+         */
+        String priority,
+
+        /**
+         * The user who created the task.
+         */
+        UserSummary creator,
+
+        /**
+         * The user assigned to execute the task.
+         */
+        UserSummary executor
+) {
+
+    /**
+     * Flat constructor used by the constructor expression, since JPQL cannot nest constructors.
+     */
+    public TaskView(UUID id, String title, String description, String status, String priority,
+                    UUID creatorId, String creatorFullName, String creatorEmail, Role creatorRole,
+                    UUID executorId, String executorFullName, String executorEmail, Role executorRole) {
+        this(id, title, description, status, priority,
+                new UserSummary(creatorId, creatorFullName, creatorEmail, creatorRole),
+                new UserSummary(executorId, executorFullName, executorEmail, executorRole));
+    }
+
+    /**
+     * Converts the view into the DTO returned by the endpoints.
+     *
+     * @return a new {@link TaskDto}.
+     */
+    public TaskDto toDto() {
+        return new TaskDto(id, title, description, status, priority, creator.toDto(), executor.toDto());
+    }
+}
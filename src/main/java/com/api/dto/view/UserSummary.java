@@ -0,0 +1,44 @@
+package com.api.dto.view;
+
+import com.api.config.enums.Role;
+import com.api.dto.UserDto;
+import java.util.UUID;
+
+/**
+ * Class UserSummary
+ *
+ * Read-only view of a user nested in {@link TaskView} and {@link CommentView}.
+ * It holds only the columns selected by the listing queries; the password is never read.
+ */
+public record UserSummary(
+
+        /**
+         * The user id.
+         */
+        UUID id,
+
+        /**
+         * The user full name.
+         */
+        String fullName,
+
+        /**
+         * The user email.
+         */
+        String email,
+
+        /**
+         * The user role.
+         */
+        Role role
+) {
+
+    /**
+     * Converts the view into the DTO returned by the endpoints, without a password.
+     *
+     * @return a new {@link UserDto}.
+     */
+    public UserDto toDto() {
+        return new UserDto(id, fullName, email, null, role);
+    }
+}
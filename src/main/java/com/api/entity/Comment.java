@@ -40,10 +40,11 @@ public class Comment {
     /**
      * The author of the comment.
      * This is a reference to the user who created the comment.
+     * It is loaded lazily; the listing queries fetch it together with the comment.
      *
      * @see User
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_author", nullable = false)
     private User author;
 
@@ -57,26 +57,29 @@ public class Task {
     /**
      * The creator of the task.
      * This is a reference to the user who created the task.
+     * It is loaded lazily; the listing queries fetch it together with the task.
      *
      * @see User
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_creator", nullable = false)
     private User creator;
 
     /**
      * The executor of the task.
      * This is a reference to the user assigned to execute the task.
+     * It is loaded lazily; the listing queries fetch it together with the task.
      *
      * @see User
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_executor", nullable = false)
     private User executor;
 
     /**
      * The comments associated with the task.
      * A task can have multiple comments, and each comment is linked to this task.
+     * Updating or deleting a task never loads them; the comments of a deleted task are removed in bulk.
      *
      * @see Comment
      */
@@ -1,6 +1,7 @@
 package com.api.entity;
 
 import com.api.config.enums.Role;
+import com.api.service.cache.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -19,6 +20,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -5,6 +5,7 @@ import com.api.dto.error.ErrorMessageResponseDto;
 import com.api.dto.error.ValidationErrorMessageResponseDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -130,6 +131,25 @@ public class ExceptionControllerAdvice{
                 .body(getResponseBody(e.getMessage()));
     }
 
+    /**
+     * Handles ServiceUnavailableException and returns a SERVICE_UNAVAILABLE response with the error message
+     * and a Retry-After header.
+     *
+     * @param e The ServiceUnavailableException to be handled.
+     * @return A ResponseEntity with a custom error message and a SERVICE_UNAVAILABLE status.
+     * @throws JsonProcessingException if the error message cannot be processed.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorMessageResponseDto> serviceUnavailableExceptionHandler(ServiceUnavailableException e) throws JsonProcessingException{
+
+        log.error("Exception: ServiceUnavailableException. " +
+                "Exception message: " + e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(getResponseBody(e.getMessage()));
+    }
+
     /**
      * Handles ValidException and returns a BAD_REQUEST response with the error message.
      *
@@ -0,0 +1,27 @@
+package com.api.exception;
+
+import lombok.Getter;
+
+/**
+ * Class ServiceUnavailableException
+ *
+ * Custom exception class for handling temporary overload.
+ * This exception is thrown when a request cannot be served right now,
+ * such as when the password verification queue is full.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor for creating a new instance of ServiceUnavailableException.
+     *
+     * @param errorMessage The message that explains the error.
+     * @param retryAfterSeconds The number of seconds after which the client may retry.
+     */
+    public ServiceUnavailableException(String errorMessage, long retryAfterSeconds) {
+        super(errorMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
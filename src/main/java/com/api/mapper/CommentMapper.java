@@ -0,0 +1,38 @@
+package com.api.mapper;
+
+import com.api.dto.CommentDto;
+import com.api.dto.CommentNoIdDto;
+import com.api.entity.Comment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Class CommentMapper
+ *
+ * Maps between the {@link Comment} entity, {@link CommentDto} and {@link CommentNoIdDto}. The implementation
+ * is generated at compile time; the author is mapped by {@link UserMapper}. The task of a comment is
+ * never taken from a DTO, it is set by the service.
+ */
+@Mapper(config = MappingConfig.class, uses = UserMapper.class)
+public interface CommentMapper {
+
+    /**
+     * @param comment the comment entity.
+     * @return a new {@link CommentDto}, or null if the comment is null.
+     */
+    CommentDto toDto(Comment comment);
+
+    /**
+     * @param commentNoIdDto the comment DTO without an id.
+     * @return a new {@link Comment} entity without id and task, or null if the DTO is null.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "task", ignore = true)
+    Comment toEntity(CommentNoIdDto commentNoIdDto);
+
+    /**
+     * @param commentDto the comment DTO with an id.
+     * @return a new {@link CommentNoIdDto}, or null if the DTO is null.
+     */
+    CommentNoIdDto toNoIdDto(CommentDto commentDto);
+}
@@ -0,0 +1,21 @@
+package com.api.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Class MappingConfig
+ *
+ * Settings shared by the mappers. The implementations are generated at compile time as Spring beans
+ * with constructor injection, and a target property that is neither mapped nor explicitly ignored
+ * fails the build, so a new field cannot be silently left out of a mapping.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MappingConfig {
+}
@@ -0,0 +1,45 @@
+package com.api.mapper;
+
+import com.api.dto.TaskDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.entity.Task;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Class TaskMapper
+ *
+ * Maps between the {@link Task} entity, {@link TaskDto} and {@link TaskNoIdDto}. The implementation is generated
+ * at compile time; the creator and the executor are mapped by {@link UserMapper}. The comments of a task
+ * are never taken from a DTO.
+ */
+@Mapper(config = MappingConfig.class, uses = UserMapper.class)
+public interface TaskMapper {
+
+    /**
+     * @param task the task entity.
+     * @return a new {@link TaskDto}, or null if the task is null.
+     */
+    TaskDto toDto(Task task);
+
+    /**
+     * @param taskDto the task DTO with an id.
+     * @return a new {@link Task} entity without comments, or null if the DTO is null.
+     */
+    @Mapping(target = "comments", ignore = true)
+    Task toEntity(TaskDto taskDto);
+
+    /**
+     * @param taskNoIdDto the task DTO without an id.
+     * @return a new {@link Task} entity without id and comments, or null if the DTO is null.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    Task toEntity(TaskNoIdDto taskNoIdDto);
+
+    /**
+     * @param taskDto the task DTO with an id.
+     * @return a new {@link TaskNoIdDto}, or null if the DTO is null.
+     */
+    TaskNoIdDto toNoIdDto(TaskDto taskDto);
+}
@@ -0,0 +1,27 @@
+package com.api.mapper;
+
+import com.api.dto.UserDto;
+import com.api.entity.User;
+import org.mapstruct.Mapper;
+
+/**
+ * Class UserMapper
+ *
+ * Maps between the {@link User} entity and {@link UserDto}. The implementation is generated at compile time
+ * and copies the fields with plain getter and setter calls.
+ */
+@Mapper(config = MappingConfig.class)
+public interface UserMapper {
+
+    /**
+     * @param user the user entity.
+     * @return a new {@link UserDto}, or null if the user is null.
+     */
+    UserDto toDto(User user);
+
+    /**
+     * @param userDto the user DTO.
+     * @return a new {@link User} entity, or null if the DTO is null.
+     */
+    User toEntity(UserDto userDto);
+}
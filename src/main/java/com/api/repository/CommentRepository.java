@@ -1,10 +1,15 @@
 package com.api.repository;
 
+import com.api.dto.view.CommentView;
 import com.api.entity.Comment;
 import io.swagger.v3.oas.annotations.Hidden;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.UUID;
 
@@ -13,24 +18,55 @@ import java.util.UUID;
  *
  * Repository interface for performing CRUD operations on the Comment entity.
  * This interface extends JpaRepository to provide standard database operations and custom queries.
+ * The read endpoints use the *View* methods, which select the comments with their authors
+ * straight into {@link CommentView} records.
  */
 @Hidden
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
     /**
-     * Deletes all comments associated with a specific task.
+     * Selects a comment with its author into a {@link CommentView}, aliased cm and a.
+     */
+    String COMMENT_VIEW = "select new com.api.dto.view.CommentView(cm.id, cm.text, a.id, a.fullName, a.email, a.role) "
+            + "from Comment cm join cm.author a";
+
+    /**
+     * Deletes all comments of a specific task with one set-based statement, without loading them.
      *
      * @param idTask The UUID of the task for which comments need to be deleted.
+     * @return The number of deleted comments.
+     */
+    @Modifying
+    @Query("delete from Comment cm where cm.task.id = :idTask")
+    int deleteAllByTaskIdInBulk(@Param("idTask") UUID idTask);
+
+    /**
+     * Counts the comments of a specific task.
+     *
+     * @param idTask The UUID of the task.
+     * @return The number of comments.
+     */
+    long countByTaskId(UUID idTask);
+
+    /**
+     * Retrieves a page of views of the comments of a specific task.
+     *
+     * @param idTask The UUID of the task.
+     * @param pageable The pagination information.
+     * @return A Page containing the comment views.
      */
-    void deleteByTaskId(UUID idTask);
+    @Query(value = COMMENT_VIEW + " where cm.task.id = :idTask",
+            countQuery = "select count(cm) from Comment cm where cm.task.id = :idTask")
+    Page<CommentView> findViewsByTaskId(@Param("idTask") UUID idTask, Pageable pageable);
 
     /**
-     * Retrieves all comments associated with a specific task, with pagination support.
+     * Retrieves a slice of views of the comments of a specific task without counting them.
      *
-     * @param idTask The UUID of the task for which comments are to be retrieved.
+     * @param idTask The UUID of the task.
      * @param pageable The pagination information.
-     * @return A Page containing the comments for the specified task.
+     * @return A Slice containing the comment views and whether a next slice exists.
      */
-    Page<Comment> findAllByTaskId(UUID idTask, Pageable pageable);
+    @Query(COMMENT_VIEW + " where cm.task.id = :idTask")
+    Slice<CommentView> findViewSliceByTaskId(@Param("idTask") UUID idTask, Pageable pageable);
 }
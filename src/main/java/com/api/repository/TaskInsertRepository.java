@@ -0,0 +1,35 @@
+package com.api.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Class TaskInsertRepository
+ *
+ * Custom fragment of {@link TaskRepository} that inserts many tasks at once with batched JDBC statements.
+ * The ids are assigned by the caller, so no task is persisted as an entity and nothing has to be read back.
+ */
+public interface TaskInsertRepository {
+
+    /**
+     * A row of the tasks table to insert.
+     *
+     * @param id the id assigned to the task.
+     * @param title the title.
+     * @param description the description, may be null.
+     * @param status the status.
+     * @param priority the priority.
+     * @param creatorId the id of the creator.
+     * @param executorId the id of the executor.
+     */
+    record NewTask(UUID id, String title, String description, String status, String priority,
+                   UUID creatorId, UUID executorId) {
+    }
+
+    /**
+     * Inserts the given tasks in batches of prepared statements, in the surrounding transaction.
+     *
+     * @param tasks The tasks to insert; their creators and executors must exist.
+     */
+    void insertAll(List<NewTask> tasks);
+}
@@ -0,0 +1,39 @@
+package com.api.repository;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Class TaskInsertRepositoryImpl
+ *
+ * Implementation of {@link TaskInsertRepository}. The rows are sent in batches of {@link #BATCH_SIZE};
+ * with reWriteBatchedInserts enabled on the connection, the PostgreSQL driver turns each batch
+ * into multi-row INSERT statements.
+ */
+class TaskInsertRepositoryImpl implements TaskInsertRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT = "INSERT INTO task_management_system.tasks "
+            + "(id, title, description, status, priority, id_creator, id_executor) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    TaskInsertRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<NewTask> tasks) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT, tasks, BATCH_SIZE, (ps, task) -> {
+            ps.setObject(1, task.id());
+            ps.setString(2, task.title());
+            ps.setString(3, task.description());
+            ps.setString(4, task.status());
+            ps.setString(5, task.priority());
+            ps.setObject(6, task.creatorId());
+            ps.setObject(7, task.executorId());
+        });
+    }
+}
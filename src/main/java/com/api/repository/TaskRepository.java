@@ -1,54 +1,197 @@
 package com.api.repository;
 
+import com.api.dto.view.TaskView;
 import com.api.entity.Task;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Class TaskRepository
  *
  * Repository interface for performing CRUD operations on the Task entity.
  * This interface extends JpaRepository to provide standard database operations and custom queries.
+ * The creator and the executor of a task are lazy; {@link #findById(UUID)} fetches them with an entity graph,
+ * so loading a task costs one select instead of one select per user.
+ * The read endpoints use the *View* methods, which select the columns straight into
+ * {@link TaskView} records and do not create entities at all.
+ * Status changes and partial updates go through the {@link TaskUpdateRepository} fragment, bulk creation
+ * through the {@link TaskInsertRepository} fragment.
  */
 @Hidden
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskUpdateRepository, TaskInsertRepository {
 
     /**
-     * Deletes a task by its ID.
+     * Selects a task with its creator and executor into a {@link TaskView}, aliased t, c and e.
+     */
+    String TASK_VIEW = "select new com.api.dto.view.TaskView(t.id, t.title, t.description, t.status, t.priority, "
+            + "c.id, c.fullName, c.email, c.role, e.id, e.fullName, e.email, e.role) "
+            + "from Task t join t.creator c join t.executor e";
+
+    /**
+     * The number of rows fetched per round trip by {@link #streamAllViews()}.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Retrieves a task by its ID together with its creator and executor.
+     *
+     * @param id The UUID of the task.
+     * @return The task, or an empty Optional if there is no such task.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"creator", "executor"})
+    Optional<Task> findById(UUID id);
+
+    /**
+     * Deletes a task with one statement, without loading it or its comments.
+     * The comments must be deleted first, see {@link CommentRepository#deleteAllByTaskIdInBulk(UUID)}.
      *
      * @param id The UUID of the task to be deleted.
+     * @return The number of deleted tasks, 0 if there is no such task.
+     */
+    @Modifying
+    @Query("delete from Task t where t.id = :id")
+    int deleteByIdInBulk(@Param("id") UUID id);
+
+    /**
+     * Counts the tasks created by a specific user.
+     *
+     * @param id The UUID of the user who created the tasks.
+     * @return The number of tasks.
+     */
+    long countByCreatorId(UUID id);
+
+    /**
+     * Counts the tasks assigned to a specific executor.
+     *
+     * @param id The UUID of the executor.
+     * @return The number of tasks.
+     */
+    long countByExecutorId(UUID id);
+
+    /**
+     * Retrieves the email of the executor of a specific task.
+     *
+     * @param id The UUID of the task.
+     * @return The executor email, or an empty Optional if there is no such task.
+     */
+    @Query("select t.executor.email from Task t where t.id = :id")
+    Optional<String> findExecutorEmailById(@Param("id") UUID id);
+
+    /**
+     * Retrieves a page of views of all tasks.
+     *
+     * @param pageable The pagination information.
+     * @return A Page containing the task views.
      */
-    void deleteById(UUID id);
+    @Query(value = TASK_VIEW, countQuery = "select count(t) from Task t")
+    Page<TaskView> findAllViews(Pageable pageable);
 
     /**
-     * Retrieves a paginated list of tasks created by a specific user.
+     * Retrieves a page of views of the tasks created by a specific user.
      *
      * @param id The UUID of the user who created the tasks.
      * @param pageable The pagination information.
-     * @return A Page containing the tasks created by the specified user.
+     * @return A Page containing the task views.
      */
-    Page<Task> findAllByCreatorId(UUID id, Pageable pageable);
+    @Query(value = TASK_VIEW + " where c.id = :id", countQuery = "select count(t) from Task t where t.creator.id = :id")
+    Page<TaskView> findViewsByCreatorId(@Param("id") UUID id, Pageable pageable);
 
     /**
-     * Retrieves a paginated list of tasks assigned to a specific executor.
+     * Retrieves a page of views of the tasks assigned to a specific executor.
      *
      * @param id The UUID of the executor.
      * @param pageable The pagination information.
-     * @return A Page containing the tasks assigned to the specified executor.
+     * @return A Page containing the task views.
      */
-    Page<Task> findAllByExecutorId(UUID id, Pageable pageable);
+    @Query(value = TASK_VIEW + " where e.id = :id", countQuery = "select count(t) from Task t where t.executor.id = :id")
+    Page<TaskView> findViewsByExecutorId(@Param("id") UUID id, Pageable pageable);
 
     /**
-     * Checks whether a task with a specific ID exists and is assigned to an executor with a given email.
+     * Retrieves a slice of views of all tasks without counting them.
      *
-     * @param id The UUID of the task.
-     * @param email The email of the executor.
-     * @return true if the task exists and is assigned to the executor, otherwise false.
+     * @param pageable The pagination information.
+     * @return A Slice containing the task views and whether a next slice exists.
+     */
+    @Query(TASK_VIEW)
+    Slice<TaskView> findAllViewsSliced(Pageable pageable);
+
+    /**
+     * Retrieves a slice of views of the tasks created by a specific user without counting them.
+     *
+     * @param id The UUID of the user who created the tasks.
+     * @param pageable The pagination information.
+     * @return A Slice containing the task views and whether a next slice exists.
+     */
+    @Query(TASK_VIEW + " where c.id = :id")
+    Slice<TaskView> findViewSliceByCreatorId(@Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Retrieves a slice of views of the tasks assigned to a specific executor without counting them.
+     *
+     * @param id The UUID of the executor.
+     * @param pageable The pagination information.
+     * @return A Slice containing the task views and whether a next slice exists.
+     */
+    @Query(TASK_VIEW + " where e.id = :id")
+    Slice<TaskView> findViewSliceByExecutorId(@Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Retrieves views of the tasks that follow a given id in id order (keyset pagination).
+     *
+     * @param lastId The last id of the previous page.
+     * @param limit The maximum number of tasks.
+     * @return The task views with an id greater than lastId, ordered by id.
+     */
+    @Query(TASK_VIEW + " where t.id > :lastId order by t.id")
+    List<TaskView> findViewsAfter(@Param("lastId") UUID lastId, Limit limit);
+
+    /**
+     * Retrieves views of the tasks of a specific creator that follow a given id in id order (keyset pagination).
+     *
+     * @param creatorId The UUID of the user who created the tasks.
+     * @param lastId The last id of the previous page.
+     * @param limit The maximum number of tasks.
+     * @return The task views of the creator with an id greater than lastId, ordered by id.
+     */
+    @Query(TASK_VIEW + " where c.id = :creatorId and t.id > :lastId order by t.id")
+    List<TaskView> findViewsByCreatorIdAfter(@Param("creatorId") UUID creatorId, @Param("lastId") UUID lastId, Limit limit);
+
+    /**
+     * Retrieves views of the tasks of a specific executor that follow a given id in id order (keyset pagination).
+     *
+     * @param executorId The UUID of the executor.
+     * @param lastId The last id of the previous page.
+     * @param limit The maximum number of tasks.
+     * @return The task views of the executor with an id greater than lastId, ordered by id.
+     */
+    @Query(TASK_VIEW + " where e.id = :executorId and t.id > :lastId order by t.id")
+    List<TaskView> findViewsByExecutorIdAfter(@Param("executorId") UUID executorId, @Param("lastId") UUID lastId, Limit limit);
+
+    /**
+     * Streams views of all tasks in id order from a server-side cursor, {@value #EXPORT_FETCH_SIZE} rows per round trip.
+     * Must be consumed and closed inside a transaction, otherwise the PostgreSQL driver reads all rows at once.
+     *
+     * @return The views of all tasks, ordered by id.
      */
-    boolean existsByIdAndExecutorEmail(UUID id, String email);
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query(TASK_VIEW + " order by t.id")
+    Stream<TaskView> streamAllViews();
 }
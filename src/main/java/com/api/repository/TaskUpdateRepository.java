@@ -0,0 +1,105 @@
+package com.api.repository;
+
+import com.api.dto.view.TaskView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Class TaskUpdateRepository
+ *
+ * Custom fragment of {@link TaskRepository} that changes tasks with a single conditional statement instead
+ * of loading, comparing and saving the entity. Only the given columns are written, and only if one of them
+ * differs; the check and the write happen in the database under the row lock, so concurrent changes
+ * of the same task cannot overwrite each other unseen.
+ */
+public interface TaskUpdateRepository {
+
+    /**
+     * The columns of the tasks table that can be changed.
+     */
+    String TITLE = "title";
+    String DESCRIPTION = "description";
+    String STATUS = "status";
+    String PRIORITY = "priority";
+    String CREATOR_ID = "id_creator";
+    String EXECUTOR_ID = "id_executor";
+
+    /**
+     * How a change ended.
+     */
+    enum Outcome {
+        /**
+         * There is no task with the given id.
+         */
+        NOT_FOUND,
+        /**
+         * The task already has the given values; nothing was written.
+         */
+        UNCHANGED,
+        /**
+         * The task was changed.
+         */
+        UPDATED
+    }
+
+    /**
+     * The result of a change.
+     *
+     * @param outcome how the change ended.
+     * @param task the task after the change, or null for {@link Outcome#NOT_FOUND}.
+     */
+    record TaskChange(Outcome outcome, TaskView task) {
+    }
+
+    /**
+     * The result of a change of many tasks.
+     *
+     * @param matched the number of selected tasks.
+     * @param changed the number of tasks that were written.
+     * @param unchanged the number of permitted tasks that already had the given values.
+     * @param denied the number of tasks given by id that the caller may not change; always 0 for a filter.
+     * @param reassigned the ids of the changed tasks if the executor was written, otherwise empty.
+     */
+    record BulkChange(int matched, int changed, int unchanged, int denied, List<UUID> reassigned) {
+    }
+
+    /**
+     * Sets the status of a task unless it already has it, in one round trip.
+     *
+     * @param id The UUID of the task.
+     * @param status The new status.
+     * @return The outcome together with the task as it is after the statement.
+     */
+    TaskChange updateStatus(UUID id, String status);
+
+    /**
+     * Writes the given columns of a task unless it already has all of these values, in one round trip.
+     * The other columns are neither read nor written.
+     *
+     * @param id The UUID of the task.
+     * @param columns The new values by column name, see the constants of this interface; may be empty.
+     * @return The outcome together with the task as it is after the statement.
+     * @throws IllegalArgumentException If a column cannot be changed.
+     */
+    TaskChange update(UUID id, Map<String, Object> columns);
+
+    /**
+     * Writes the given columns of every selected task that differs in one of them, in one round trip.
+     * The selected rows are locked and counted by the same statement. For a caller restricted to their own
+     * tasks the executor is part of the selection, so the tasks of other users are neither locked nor changed;
+     * they are only counted as denied when they were asked for by id.
+     *
+     * @param ids The UUIDs of the tasks to change, or null to select by the filter only.
+     * @param filter The values the selected tasks must have by column name; may be empty if ids are given.
+     * @param columns The new values by column name; not empty.
+     * @param executorEmail The email of the caller if only the tasks executed by them may be changed,
+     *                      or null if every task may be changed.
+     * @return The counts of the selected tasks by outcome.
+     * @throws IllegalArgumentException If a column cannot be changed or filtered, or nothing restricts the selection.
+     */
+    BulkChange updateAll(Collection<UUID> ids, Map<String, Object> filter, Map<String, Object> columns,
+                         String executorEmail);
+}
@@ -0,0 +1,173 @@
+package com.api.repository;
+
+import com.api.config.enums.Role;
+import com.api.dto.view.TaskView;
+import com.api.dto.view.UserSummary;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Class TaskUpdateRepositoryImpl
+ *
+ * Implementation of {@link TaskUpdateRepository}. The UPDATE only matches a task that differs in one of
+ * the given columns; the rows it returns are joined with the creator and executor. When nothing was updated,
+ * the second branch of the query returns the task as it is, so no row at all means the task does not exist.
+ * A change of many tasks selects and locks the rows first, computes for each whether the caller may change it
+ * and whether it differs, updates the permitted differing ones and returns only the counts.
+ */
+class TaskUpdateRepositoryImpl implements TaskUpdateRepository {
+
+    private static final String SCHEMA = "task_management_system";
+    private static final Set<String> COLUMNS = Set.of(TITLE, DESCRIPTION, STATUS, PRIORITY, CREATOR_ID, EXECUTOR_ID);
+    private static final Set<String> FILTER_COLUMNS = Set.of(STATUS, PRIORITY, CREATOR_ID, EXECUTOR_ID);
+    private static final String FILTER_PREFIX = "filter_";
+    private static final String TASK_COLUMNS = "t.id, t.title, t.description, t.status, t.priority, "
+            + "c.id, c.full_name, c.email, c.\"role\", e.id, e.full_name, e.email, e.\"role\"";
+    private static final String USER_JOINS = " JOIN " + SCHEMA + ".users c ON c.id = t.id_creator"
+            + " JOIN " + SCHEMA + ".users e ON e.id = t.id_executor";
+    private static final String SELECT_CURRENT = "SELECT FALSE AS changed, " + TASK_COLUMNS
+            + " FROM " + SCHEMA + ".tasks t" + USER_JOINS + " WHERE t.id = :id";
+    private static final String UPDATE_STATUS = conditionalUpdate(Set.of(STATUS));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    TaskUpdateRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public TaskChange updateStatus(UUID id, String status) {
+        return query(UPDATE_STATUS, new MapSqlParameterSource("id", id).addValue(STATUS, status));
+    }
+
+    @Override
+    public TaskChange update(UUID id, Map<String, Object> columns) {
+        for (String column : columns.keySet()) {
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Column " + column + " cannot be changed");
+            }
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("id", id).addValues(columns);
+        return query(columns.isEmpty() ? SELECT_CURRENT : conditionalUpdate(columns.keySet()), parameters);
+    }
+
+    @Override
+    public BulkChange updateAll(Collection<UUID> ids, Map<String, Object> filter, Map<String, Object> columns,
+                                String executorEmail) {
+        if (columns.isEmpty() || (ids == null && filter.isEmpty())) {
+            throw new IllegalArgumentException("The columns to change and the tasks to change must be given");
+        }
+        requireColumns(columns.keySet(), COLUMNS);
+        requireColumns(filter.keySet(), FILTER_COLUMNS);
+        if (ids != null && ids.isEmpty()) {
+            return new BulkChange(0, 0, 0, 0, List.of());
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource(columns);
+        final StringJoiner conditions = new StringJoiner(" AND ");
+        if (ids != null) {
+            conditions.add("t.id IN (:ids)");
+            parameters.addValue("ids", ids);
+        }
+        filter.forEach((column, value) -> {
+            conditions.add("t." + column + " = :" + FILTER_PREFIX + column);
+            parameters.addValue(FILTER_PREFIX + column, value);
+        });
+        final String selection = conditions.toString();
+        String denied = "0";
+        if (executorEmail != null) {
+            final String executor = "(SELECT e.id FROM " + SCHEMA + ".users e WHERE e.email = :email)";
+            conditions.add("t.id_executor = " + executor);
+            parameters.addValue("email", executorEmail);
+            if (ids != null) {
+                denied = "(SELECT count(*) FROM " + SCHEMA + ".tasks t WHERE " + selection
+                        + " AND t.id_executor IS DISTINCT FROM " + executor + ")";
+            }
+        }
+        final StringJoiner assignments = new StringJoiner(", ");
+        final StringJoiner differences = new StringJoiner(" OR ", "(", ")");
+        for (String column : columns.keySet()) {
+            assignments.add(column + " = :" + column);
+            differences.add("t." + column + " IS DISTINCT FROM :" + column);
+        }
+        final String sql = "WITH target AS ("
+                + "SELECT t.id, " + differences + " AS differs"
+                + " FROM " + SCHEMA + ".tasks t WHERE " + conditions + " FOR UPDATE OF t), "
+                + "updated AS ("
+                + "UPDATE " + SCHEMA + ".tasks t SET " + assignments
+                + " FROM target WHERE t.id = target.id AND target.differs RETURNING t.id) "
+                + "SELECT (SELECT count(*) FROM target),"
+                + " (SELECT count(*) FROM updated),"
+                + " (SELECT count(*) FROM target WHERE NOT differs),"
+                + " " + denied + ","
+                + (columns.containsKey(EXECUTOR_ID) ? " (SELECT array_agg(id) FROM updated)" : " NULL::uuid[]");
+        return jdbcTemplate.queryForObject(sql, parameters, (rs, rowNum) -> new BulkChange(
+                rs.getInt(1) + rs.getInt(4), rs.getInt(2), rs.getInt(3), rs.getInt(4), ids(rs.getArray(5))));
+    }
+
+    private static void requireColumns(Set<String> columns, Set<String> allowed) {
+        for (String column : columns) {
+            if (!allowed.contains(column)) {
+                throw new IllegalArgumentException("Column " + column + " cannot be used");
+            }
+        }
+    }
+
+    private static List<UUID> ids(Array array) throws SQLException {
+        return array == null ? List.of() : Arrays.asList((UUID[]) array.getArray());
+    }
+
+    /**
+     * Builds the statement that writes the given columns, each bound to the parameter of the same name,
+     * if any of them is distinct from the stored value.
+     */
+    private static String conditionalUpdate(Set<String> columns) {
+        final StringJoiner assignments = new StringJoiner(", ");
+        final StringJoiner differences = new StringJoiner(" OR ", "(", ")");
+        for (String column : columns) {
+            assignments.add(column + " = :" + column);
+            differences.add(column + " IS DISTINCT FROM :" + column);
+        }
+        return "WITH updated AS ("
+                + "UPDATE " + SCHEMA + ".tasks SET " + assignments + " WHERE id = :id AND " + differences
+                + " RETURNING id, title, description, status, priority, id_creator, id_executor) "
+                + "SELECT TRUE AS changed, " + TASK_COLUMNS + " FROM updated t" + USER_JOINS
+                + " UNION ALL "
+                + SELECT_CURRENT + " AND NOT EXISTS (SELECT 1 FROM updated)";
+    }
+
+    private TaskChange query(String sql, MapSqlParameterSource parameters) {
+        final List<TaskChange> rows = jdbcTemplate.query(sql, parameters,
+                (rs, rowNum) -> new TaskChange(rs.getBoolean(1) ? Outcome.UPDATED : Outcome.UNCHANGED, task(rs)));
+        return rows.isEmpty() ? new TaskChange(Outcome.NOT_FOUND, null) : rows.get(0);
+    }
+
+    private static TaskView task(ResultSet rs) throws SQLException {
+        return new TaskView(
+                rs.getObject(2, UUID.class),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getString(6),
+                user(rs, 7),
+                user(rs, 11));
+    }
+
+    private static UserSummary user(ResultSet rs, int column) throws SQLException {
+        return new UserSummary(
+                rs.getObject(column, UUID.class),
+                rs.getString(column + 1),
+                rs.getString(column + 2),
+                Role.valueOf(rs.getString(column + 3)));
+    }
+}
@@ -4,8 +4,12 @@ package com.api.repository;
 import com.api.entity.User;
 import io.swagger.v3.oas.annotations.Hidden;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -19,11 +23,22 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
-     * Retrieves a user by their email address.
+     * Retrieves a user by their email address, ignoring case. The comparison on lower(email)
+     * is served by the unique users_email_lower_unique_idx index.
      *
      * @param login The email address (login) of the user.
      * @return An Optional containing the user with the specified email, or empty if no user is found.
      */
-    Optional<User> findByEmail(String login);
+    @Query("select u from User u where lower(u.email) = lower(:login)")
+    Optional<User> findByEmailIgnoreCase(@Param("login") String login);
+
+    /**
+     * Selects which of the given ids belong to existing users, in one query.
+     *
+     * @param ids The user ids to check.
+     * @return The ids among the given ones that have a user.
+     */
+    @Query("select u.id from User u where u.id in :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package com.api.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class AccessTokenRevocationList
+ *
+ * Ids ("jti") of access tokens that were revoked before they expired, e.g. on logout.
+ * Each id is kept only until the token expires. Every request is first checked against a Bloom filter,
+ * which answers "not revoked" for almost all tokens with a few bit reads; only the ids that pass the filter
+ * are looked up in the exact map. The filter cannot forget ids, so it is rebuilt in the background
+ * from the ids that are still alive and swapped in.
+ */
+@Component
+public class AccessTokenRevocationList {
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASH_FUNCTIONS = 7;
+
+    private final ConcurrentMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final long rebuildIntervalMillis;
+    private final Clock clock;
+    private final LongAdder prefilterPasses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile Prefilter prefilter = new Prefilter(MIN_CAPACITY);
+    private ScheduledExecutorService rebuilder;
+
+    /**
+     * Bloom filter over the token ids. The bits are only ever set, so readers need no lock.
+     */
+    private static final class Prefilter {
+        final int capacity;
+        final AtomicLongArray words;
+        final long bitMask;
+
+        Prefilter(int capacity) {
+            this.capacity = capacity;
+            final long bits = Long.highestOneBit((long) capacity * BITS_PER_ENTRY - 1) << 1;
+            this.words = new AtomicLongArray((int) (bits >>> 6));
+            this.bitMask = bits - 1;
+        }
+
+        void add(long hash1, long hash2) {
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                final long bit = (hash1 + i * hash2) & bitMask;
+                words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (current, mask) -> current | mask);
+            }
+        }
+
+        boolean mightContain(long hash1, long hash2) {
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                final long bit = (hash1 + i * hash2) & bitMask;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @Autowired
+    public AccessTokenRevocationList(@Value("${jwt.access.revocation.rebuild-interval-ms:60000}") long rebuildIntervalMillis,
+                                     Clock clock) {
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-token-revocation-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuild, rebuildIntervalMillis, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /**
+     * Revokes the access token until it expires.
+     *
+     * @param tokenId the "jti" claim of the token.
+     * @param expiresAtMillis the token expiration in epoch milliseconds.
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        synchronized (lock) {
+            revoked.put(tokenId, expiresAtMillis);
+            if (revoked.size() > prefilter.capacity) {
+                rebuild();
+                return;
+            }
+            final long hash1 = hash(tokenId);
+            prefilter.add(hash1, secondHash(hash1));
+        }
+    }
+
+    /**
+     * Checks whether the access token was revoked.
+     *
+     * @param tokenId the "jti" claim of the token, may be null for tokens issued without it.
+     * @return true if the token must not be accepted anymore.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        final long hash1 = hash(tokenId);
+        if (!prefilter.mightContain(hash1, secondHash(hash1))) {
+            return false;
+        }
+        prefilterPasses.increment();
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Drops the ids of expired tokens and replaces the prefilter with one built from the remaining ids.
+     * The new filter is sized for twice the remaining ids, so it stays accurate until the next rebuild.
+     */
+    void rebuild() {
+        synchronized (lock) {
+            final long now = clock.millis();
+            revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+            final Prefilter rebuilt = new Prefilter(Math.max(MIN_CAPACITY, revoked.size() * 2));
+            for (String tokenId : revoked.keySet()) {
+                final long hash1 = hash(tokenId);
+                rebuilt.add(hash1, secondHash(hash1));
+            }
+            prefilter = rebuilt;
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    public long getPrefilterPasses() {
+        return prefilterPasses.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters of the id, finished with {@link #mix(long)}.
+     */
+    private static long hash(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash ^= tokenId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * The second hash for double hashing; it is odd, so it walks all bits of the power-of-two filter.
+     */
+    private static long secondHash(long hash1) {
+        return mix(hash1) | 1;
+    }
+
+    /**
+     * The finalizer of MurmurHash3.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,120 @@
+package com.api.security;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Class ExpirationWheel
+ *
+ * Hashed timer wheel that tells which keys are due to expire without scanning the whole store.
+ * Every key is put into the slot of its expiration tick; the sweeper only drains the slots of the ticks
+ * that have fully passed. The wheel does not own the expiration times: it asks the store for the current
+ * expiration of a key, so keys that were removed or rescheduled in the meantime are simply dropped.
+ */
+class ExpirationWheel {
+
+    private final long tickMillis;
+    private final ConcurrentLinkedQueue<String>[] slots;
+    private long lastSweptTick;
+
+    @SuppressWarnings("unchecked")
+    ExpirationWheel(int slotCount, long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ConcurrentLinkedQueue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastSweptTick = nowMillis / tickMillis - 1;
+    }
+
+    /**
+     * Schedules the key for its expiration time.
+     *
+     * @param key the key of the store entry.
+     * @param expiresAtMillis the expiration time in epoch milliseconds.
+     */
+    void schedule(String key, long expiresAtMillis) {
+        slots[slotOf(expiresAtMillis)].add(key);
+    }
+
+    /**
+     * Drains the slots of all ticks that have passed since the previous call.
+     * Keys that are expired are handed to the callback, keys that expire in a later revolution stay in their slot.
+     *
+     * @param nowMillis the current time in epoch milliseconds.
+     * @param expiresAt returns the current expiration of a key or -1 if the key is not in the store anymore.
+     * @param onExpired called for every expired key.
+     */
+    synchronized void advance(long nowMillis, ToLongFunction<String> expiresAt, Consumer<String> onExpired) {
+        final long currentTick = nowMillis / tickMillis;
+        final long firstTick = Math.max(lastSweptTick + 1, currentTick - slots.length);
+        for (long tick = firstTick; tick < currentTick; tick++) {
+            final int slot = (int) (tick % slots.length);
+            final ConcurrentLinkedQueue<String> queue = slots[slot];
+            for (int n = queue.size(); n > 0; n--) {
+                final String key = queue.poll();
+                if (key == null) {
+                    break;
+                }
+                final long expiration = expiresAt.applyAsLong(key);
+                if (expiration < 0 || slotOf(expiration) != slot) {
+                    continue;
+                }
+                if (expiration <= nowMillis) {
+                    onExpired.accept(key);
+                } else {
+                    queue.add(key);
+                }
+            }
+        }
+        lastSweptTick = Math.max(lastSweptTick, currentTick - 1);
+    }
+
+    /**
+     * Removes and returns a key that expires first, with the precision of one tick.
+     * A slot also holds keys of later revolutions of the wheel, so the slots are walked in tick order
+     * and only a key due by the tick being walked is taken. If every key is more than one revolution away,
+     * the key with the earliest expiration is taken.
+     *
+     * @param expiresAt returns the current expiration of a key or -1 if the key is not in the store anymore.
+     * @return the key that expires first or null if the wheel is empty.
+     */
+    synchronized String pollEarliest(ToLongFunction<String> expiresAt) {
+        String earliest = null;
+        long earliestExpiration = Long.MAX_VALUE;
+        for (int i = 1; i <= slots.length; i++) {
+            final long tick = lastSweptTick + i;
+            final int slot = (int) (tick % slots.length);
+            final Iterator<String> keys = slots[slot].iterator();
+            while (keys.hasNext()) {
+                final String key = keys.next();
+                final long expiration = expiresAt.applyAsLong(key);
+                if (expiration < 0 || slotOf(expiration) != slot) {
+                    keys.remove();
+                } else if (expiration / tickMillis <= tick) {
+                    keys.remove();
+                    return key;
+                } else if (expiration < earliestExpiration) {
+                    earliest = key;
+                    earliestExpiration = expiration;
+                }
+            }
+        }
+        if (earliest != null) {
+            slots[slotOf(earliestExpiration)].remove(earliest);
+        }
+        return earliest;
+    }
+
+    void clear() {
+        for (ConcurrentLinkedQueue<String> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    private int slotOf(long expiresAtMillis) {
+        return (int) ((expiresAtMillis / tickMillis) % slots.length);
+    }
+}
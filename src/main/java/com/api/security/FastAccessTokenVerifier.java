@@ -0,0 +1,351 @@
+package com.api.security;
+
+import com.api.config.enums.Role;
+import lombok.NonNull;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Class FastAccessTokenVerifier
+ *
+ * Allocation-light verifier for the exact access token shape that {@link JwtProvider} emits:
+ * the fixed header of the access key algorithm, a flat JSON payload and an HMAC signature.
+ * Base64url is decoded into per-thread buffers, the HMAC is computed with a per-thread {@link Mac}
+ * and only the "sub", "role", "jti" and "exp" claims are read by a minimal scanner.
+ *
+ * <p>The verifier never rejects a token on its own: whenever something is unexpected
+ * (other header, escaped characters, nested values, "nbf", bad signature, expired token)
+ * it returns null and the caller falls back to jjwt, which produces the usual error.</p>
+ */
+public class FastAccessTokenVerifier {
+
+    private static final int MAX_TOKEN_LENGTH = 2048;
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] ROLE = ascii("role");
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] NBF = ascii("nbf");
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final HmacJwtKey key;
+    private final String headerPrefix;
+    private final ThreadLocal<Buffers> buffers;
+
+    private static final class Buffers {
+        final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+        final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        final byte[] signature;
+        final byte[] expectedSignature;
+
+        Buffers(int signatureLength) {
+            this.signature = new byte[signatureLength + 2];
+            this.expectedSignature = new byte[signatureLength];
+        }
+    }
+
+    /**
+     * Per-call scanner state: the position in the payload and the claims found so far.
+     */
+    private static final class Scanner {
+        final byte[] json;
+        final int end;
+        int pos;
+        String subject;
+        Role role;
+        String tokenId;
+        long expiration = -1;
+
+        Scanner(byte[] json, int end) {
+            this.json = json;
+            this.end = end;
+        }
+    }
+
+    public FastAccessTokenVerifier(@NonNull HmacJwtKey key) {
+        this.key = key;
+        this.headerPrefix = key.getEncodedHeader() + ".";
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(key.getSignatureLength()));
+    }
+
+    /**
+     * Verifies the token signature and expiration and reads its subject, role and id.
+     *
+     * @param token the JWT access token.
+     * @param nowMillis the current time in epoch milliseconds.
+     * @return the verified token or null if the token has to be verified by jjwt.
+     */
+    public VerifiedAccessToken verify(@NonNull String token, long nowMillis) {
+        final int length = token.length();
+        if (length > MAX_TOKEN_LENGTH || !token.startsWith(headerPrefix)) {
+            return null;
+        }
+        final int payloadStart = headerPrefix.length();
+        final int signatureStart = token.indexOf('.', payloadStart) + 1;
+        if (signatureStart == 0 || token.indexOf('.', signatureStart) >= 0) {
+            return null;
+        }
+
+        final Buffers buf = buffers.get();
+        if (!isSignatureValid(token, signatureStart, buf)) {
+            return null;
+        }
+
+        final int payloadLength = decode(token, payloadStart, signatureStart - 1, buf.payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        final Scanner scanner = new Scanner(buf.payload, payloadLength);
+        if (!scanObject(scanner) || scanner.subject == null || scanner.role == null || scanner.expiration < 0) {
+            return null;
+        }
+        final long expiresAtMillis = scanner.expiration * 1000;
+        if (expiresAtMillis <= nowMillis) {
+            return null;
+        }
+        return new VerifiedAccessToken(scanner.subject, scanner.role, scanner.tokenId, expiresAtMillis);
+    }
+
+    private boolean isSignatureValid(String token, int signatureStart, Buffers buf) {
+        final int signingInputLength = signatureStart - 1;
+        for (int i = 0; i < signingInputLength; i++) {
+            final char c = token.charAt(i);
+            if (c > 0x7f) {
+                return false;
+            }
+            buf.signingInput[i] = (byte) c;
+        }
+        final int signatureLength = decode(token, signatureStart, token.length(), buf.signature);
+        if (signatureLength != key.getSignatureLength()) {
+            return false;
+        }
+        final Mac mac = key.mac();
+        mac.update(buf.signingInput, 0, signingInputLength);
+        try {
+            mac.doFinal(buf.expectedSignature, 0);
+        } catch (ShortBufferException e) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < signatureLength; i++) {
+            diff |= buf.expectedSignature[i] ^ buf.signature[i];
+        }
+        return diff == 0;
+    }
+
+    /**
+     * Decodes unpadded base64url characters of the token into the target buffer.
+     *
+     * @return the number of decoded bytes or -1 if the input is not valid base64url or does not fit.
+     */
+    private static int decode(String token, int from, int to, byte[] target) {
+        final int chars = to - from;
+        final int remainder = chars % 4;
+        final int length = chars / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+        if (remainder == 1 || length > target.length) {
+            return -1;
+        }
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            final char c = token.charAt(i);
+            final int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    private static boolean scanObject(Scanner s) {
+        skipWhitespace(s);
+        if (!consume(s, '{')) {
+            return false;
+        }
+        skipWhitespace(s);
+        if (consume(s, '}')) {
+            return true;
+        }
+        while (true) {
+            skipWhitespace(s);
+            if (!consume(s, '"')) {
+                return false;
+            }
+            final int keyStart = s.pos;
+            final int keyEnd = skipString(s);
+            if (keyEnd < 0) {
+                return false;
+            }
+            skipWhitespace(s);
+            if (!consume(s, ':')) {
+                return false;
+            }
+            skipWhitespace(s);
+            if (!scanValue(s, keyStart, keyEnd)) {
+                return false;
+            }
+            skipWhitespace(s);
+            if (consume(s, '}')) {
+                skipWhitespace(s);
+                return s.pos == s.end;
+            }
+            if (!consume(s, ',')) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean scanValue(Scanner s, int keyStart, int keyEnd) {
+        if (equals(s.json, keyStart, keyEnd, NBF)) {
+            return false;
+        }
+        final boolean isSubject = equals(s.json, keyStart, keyEnd, SUB);
+        final boolean isRole = equals(s.json, keyStart, keyEnd, ROLE);
+        final boolean isTokenId = equals(s.json, keyStart, keyEnd, JTI);
+        if (s.pos >= s.end) {
+            return false;
+        }
+        final byte first = s.json[s.pos];
+        if (first == '"') {
+            s.pos++;
+            final int valueStart = s.pos;
+            final int valueEnd = skipString(s);
+            if (valueEnd < 0) {
+                return false;
+            }
+            if (isSubject || isRole || isTokenId) {
+                if (indexOf(s.json, valueStart, valueEnd, (byte) '\\') >= 0) {
+                    return false;
+                }
+                final String value = new String(s.json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                if (isSubject) {
+                    s.subject = value;
+                } else if (isTokenId) {
+                    s.tokenId = value;
+                } else {
+                    s.role = roleOf(value);
+                    return s.role != null;
+                }
+            }
+            return true;
+        }
+        if (isSubject || isRole || isTokenId) {
+            return false;
+        }
+        if (equals(s.json, keyStart, keyEnd, EXP)) {
+            s.expiration = scanLong(s);
+            return s.expiration >= 0;
+        }
+        return skipLiteral(s);
+    }
+
+    /**
+     * Skips a JSON string whose opening quote was already consumed.
+     *
+     * @return the position of the closing quote or -1 if the string is not terminated.
+     */
+    private static int skipString(Scanner s) {
+        while (s.pos < s.end) {
+            final byte b = s.json[s.pos];
+            if (b == '\\') {
+                s.pos += 2;
+            } else if (b == '"') {
+                return s.pos++;
+            } else {
+                s.pos++;
+            }
+        }
+        return -1;
+    }
+
+    private static long scanLong(Scanner s) {
+        long value = 0;
+        final int start = s.pos;
+        while (s.pos < s.end && s.json[s.pos] >= '0' && s.json[s.pos] <= '9') {
+            if (s.pos - start >= 18) {
+                return -1;
+            }
+            value = value * 10 + (s.json[s.pos++] - '0');
+        }
+        return s.pos == start ? -1 : value;
+    }
+
+    /**
+     * Skips a number, true, false or null. Nested objects and arrays are not expected in our tokens.
+     */
+    private static boolean skipLiteral(Scanner s) {
+        final int start = s.pos;
+        while (s.pos < s.end) {
+            final byte b = s.json[s.pos];
+            if (b == ',' || b == '}' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                break;
+            }
+            if (b == '{' || b == '[' || b == '"') {
+                return false;
+            }
+            s.pos++;
+        }
+        return s.pos > start;
+    }
+
+    private static void skipWhitespace(Scanner s) {
+        while (s.pos < s.end) {
+            final byte b = s.json[s.pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            s.pos++;
+        }
+    }
+
+    private static boolean consume(Scanner s, char expected) {
+        if (s.pos < s.end && s.json[s.pos] == expected) {
+            s.pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean equals(byte[] json, int from, int to, byte[] expected) {
+        return Arrays.equals(json, from, to, expected, 0, expected.length);
+    }
+
+    private static int indexOf(byte[] json, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (json[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Role roleOf(String value) {
+        for (Role role : Role.values()) {
+            if (role.name().equals(value)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
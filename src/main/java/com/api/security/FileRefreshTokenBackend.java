@@ -0,0 +1,393 @@
+package com.api.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class FileRefreshTokenBackend
+ *
+ * Durable backend of {@link RefreshTokenStore} that appends every change to a binary log file.
+ * On startup the log is memory-mapped and replayed, the record with the highest version of each user wins
+ * and expired sessions are skipped. The store calls the backend outside of its locks, so the records of a user
+ * are not necessarily appended in version order. A removal is therefore kept as a tombstone until the removed
+ * session would have expired, and a clear keeps its version, so an older save appended later cannot bring
+ * a session back. A background task flushes the log to disk and, once the log has grown to twice its size
+ * after the previous compaction, rewrites it from the last clear, the live sessions of the store and
+ * the tombstones into a temporary file that atomically replaces the log.
+ *
+ * <p>Record layout: type (1 byte), version (8 bytes), email length (2 bytes), email (UTF-8), then for a saved
+ * session the token digest (16 bytes) and the expiration in epoch milliseconds (8 bytes), and for a removal
+ * the expiration of the removed session (8 bytes). A clear has an empty email.
+ * A record cut short by a crash is dropped on replay.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store.backend", havingValue = "file")
+public class FileRefreshTokenBackend implements RefreshTokenBackend {
+
+    private static final byte SAVED = 1;
+    private static final byte REMOVED = 2;
+    private static final byte CLEARED = 3;
+    private static final int MAX_EMAIL_LENGTH = 1024;
+    private static final int MAX_RECORD_LENGTH = 1 + 8 + 2 + MAX_EMAIL_LENGTH + 16 + 8;
+    private static final int HEADER_LENGTH = 1 + 8 + 2;
+    private static final long MIN_COMPACTION_SIZE = 1 << 20;
+
+    /**
+     * The newest record of a user; a removed session is kept as an entry without digest,
+     * so an older record that comes later in the log cannot bring it back.
+     */
+    private record Entry(TokenDigest digest, long expiresAtMillis, long version) {
+    }
+
+    /**
+     * The records read from the log: the newest entry of each user and the version of the last clear.
+     * A record older than the last clear was written before it.
+     */
+    private static final class Replay {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+        private long clearedVersion;
+
+        private void keepNewest(String email, Entry entry) {
+            if (entry.version() >= clearedVersion) {
+                entries.merge(email, entry, (current, next) -> next.version() >= current.version() ? next : current);
+            }
+        }
+
+        private void clear(long version) {
+            clearedVersion = Math.max(clearedVersion, version);
+            entries.values().removeIf(entry -> entry.version() < clearedVersion);
+        }
+    }
+
+    private final Path path;
+    private final long compactionIntervalMillis;
+    private final Clock clock;
+    private final Object lock = new Object();
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(MAX_RECORD_LENGTH);
+    private final Map<String, Entry> tombstones = new HashMap<>();
+    private long clearedVersion;
+    private FileChannel channel;
+    private long compactedSize;
+    private Sessions sessions;
+    private ScheduledExecutorService compactor;
+
+    @Autowired
+    public FileRefreshTokenBackend(@Value("${jwt.refresh.store.file.path:refresh-tokens.log}") String path,
+                                   @Value("${jwt.refresh.store.file.compaction-interval-ms:300000}") long compactionIntervalMillis,
+                                   Clock clock) {
+        this.path = Paths.get(path);
+        this.compactionIntervalMillis = compactionIntervalMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start(Sessions sessions) {
+        this.sessions = sessions;
+        try {
+            final long started = System.nanoTime();
+            final int restored = replay(sessions);
+            log.info("Restored {} refresh token sessions from {} in {} ms",
+                    restored, path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            synchronized (lock) {
+                channel = openLog();
+                compactedSize = channel.size();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open refresh token log at: " + path, e);
+        }
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::flushAndCompact,
+                compactionIntervalMillis, compactionIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        synchronized (lock) {
+            if (channel != null) {
+                try {
+                    channel.force(false);
+                    channel.close();
+                } catch (IOException e) {
+                    log.error("Cannot close refresh token log: {}", e.getMessage(), e);
+                }
+                channel = null;
+            }
+        }
+    }
+
+    @Override
+    public void saved(String email, TokenDigest digest, long expiresAtMillis, long version) {
+        append(SAVED, version, email, digest, expiresAtMillis);
+    }
+
+    @Override
+    public void removed(String email, long expiresAtMillis, long version) {
+        append(REMOVED, version, email, null, expiresAtMillis);
+    }
+
+    @Override
+    public void cleared(long version) {
+        append(CLEARED, version, "", null, 0);
+    }
+
+    /**
+     * Appends one record to the log and keeps the tombstones and the last clear for the next compaction.
+     * The record is not forced to disk here: the log is flushed periodically, so a crash can lose
+     * the changes of the last compaction interval, never the whole log.
+     */
+    private void append(byte type, long version, String email, TokenDigest digest, long expiresAtMillis) {
+        final byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        if (emailBytes.length > MAX_EMAIL_LENGTH) {
+            log.error("Email is too long to be stored in the refresh token log: {}", email);
+            return;
+        }
+        synchronized (lock) {
+            if (channel == null) {
+                return;
+            }
+            recordBuffer.clear();
+            writeRecord(recordBuffer, type, version, emailBytes, digest, expiresAtMillis);
+            recordBuffer.flip();
+            try {
+                while (recordBuffer.hasRemaining()) {
+                    channel.write(recordBuffer);
+                }
+            } catch (IOException e) {
+                log.error("Cannot append to refresh token log: {}", e.getMessage(), e);
+            }
+            switch (type) {
+                case SAVED -> {
+                    if (!tombstones.isEmpty()) {
+                        tombstones.computeIfPresent(email, (key, tombstone) -> tombstone.version() < version ? null : tombstone);
+                    }
+                }
+                case REMOVED -> tombstones.merge(email, new Entry(null, expiresAtMillis, version),
+                        (current, next) -> next.version() >= current.version() ? next : current);
+                default -> {
+                    clearedVersion = Math.max(clearedVersion, version);
+                    tombstones.values().removeIf(tombstone -> tombstone.version() < clearedVersion);
+                }
+            }
+        }
+    }
+
+    private static void writeRecord(ByteBuffer target, byte type, long version, byte[] emailBytes,
+                                    TokenDigest digest, long expiresAtMillis) {
+        target.put(type);
+        target.putLong(version);
+        target.putShort((short) emailBytes.length);
+        target.put(emailBytes);
+        if (type == SAVED) {
+            target.putLong(digest.high());
+            target.putLong(digest.low());
+            target.putLong(expiresAtMillis);
+        } else if (type == REMOVED) {
+            target.putLong(expiresAtMillis);
+        }
+    }
+
+    /**
+     * Reads the whole log and hands the sessions that are not expired to the store.
+     * The tombstones that are still needed and the last clear are kept for the next compaction.
+     *
+     * @return the number of restored sessions.
+     */
+    private int replay(Sessions sessions) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        final Replay replay = new Replay();
+        final long size;
+        final long validSize;
+        try (FileChannel input = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = input.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Refresh token log is too large to be replayed: " + size + " bytes");
+            }
+            final MappedByteBuffer buffer = input.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            while (buffer.hasRemaining()) {
+                if (!readRecord(buffer, replay)) {
+                    break;
+                }
+            }
+            validSize = buffer.position();
+        }
+        if (validSize < size) {
+            log.warn("Refresh token log ends with an incomplete record, {} bytes are dropped", size - validSize);
+            try (FileChannel output = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                output.truncate(validSize);
+            }
+        }
+
+        final long now = clock.millis();
+        int restored = 0;
+        synchronized (lock) {
+            clearedVersion = replay.clearedVersion;
+            for (Map.Entry<String, Entry> entry : replay.entries.entrySet()) {
+                final Entry value = entry.getValue();
+                if (value.expiresAtMillis() <= now) {
+                    continue;
+                }
+                if (value.digest() == null) {
+                    tombstones.put(entry.getKey(), value);
+                } else {
+                    sessions.restore(entry.getKey(), value.digest(), value.expiresAtMillis(), value.version());
+                    restored++;
+                }
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Applies the next record of the log to the replayed entries.
+     *
+     * @return false if the record is incomplete or unknown; the buffer position is then left at its start.
+     */
+    private static boolean readRecord(ByteBuffer buffer, Replay replay) {
+        final int start = buffer.position();
+        if (buffer.remaining() < HEADER_LENGTH) {
+            return false;
+        }
+        final byte type = buffer.get();
+        final long version = buffer.getLong();
+        final int emailLength = Short.toUnsignedInt(buffer.getShort());
+        final int bodyLength = emailLength + (type == SAVED ? 24 : type == REMOVED ? 8 : 0);
+        if (type < SAVED || type > CLEARED || emailLength > MAX_EMAIL_LENGTH || buffer.remaining() < bodyLength) {
+            buffer.position(start);
+            return false;
+        }
+        final byte[] emailBytes = new byte[emailLength];
+        buffer.get(emailBytes);
+        final String email = new String(emailBytes, StandardCharsets.UTF_8);
+        switch (type) {
+            case SAVED -> replay.keepNewest(email, new Entry(
+                    new TokenDigest(buffer.getLong(), buffer.getLong()), buffer.getLong(), version));
+            case REMOVED -> replay.keepNewest(email, new Entry(null, buffer.getLong(), version));
+            default -> replay.clear(version);
+        }
+        return true;
+    }
+
+    /**
+     * Forces the appended records to disk and compacts the log when it has grown enough.
+     */
+    void flushAndCompact() {
+        synchronized (lock) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.force(false);
+                if (channel.size() >= Math.max(2 * compactedSize, MIN_COMPACTION_SIZE)) {
+                    compact();
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.error("Refresh token log compaction failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes the last clear, the live sessions of the store and the tombstones that are not expired
+     * into a temporary file and moves it over the log. Appends wait for the lock during the whole snapshot
+     * and move. The store changes its map before it calls the backend, so a change is either already in
+     * the map when the snapshot reads it or appended to the new log after the move. A change found in both
+     * places is resolved by the versions on replay, and an older save appended after the compaction loses
+     * against the tombstone or the clear that was written into the new log. A tombstone is dropped once the
+     * removed session has expired: an older save of the same user expires no later than that session.
+     * Records that were not flushed yet can still be lost by a crash, as between two flushes.
+     */
+    void compact() throws IOException {
+        synchronized (lock) {
+            final long before = channel.size();
+            final long now = clock.millis();
+            tombstones.values().removeIf(tombstone -> tombstone.expiresAtMillis() <= now);
+            final Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            try (FileChannel output = FileChannel.open(compacted,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                final ByteBuffer chunk = ByteBuffer.allocate(64 * MAX_RECORD_LENGTH);
+                if (clearedVersion > 0) {
+                    writeRecord(chunk, CLEARED, clearedVersion, new byte[0], null, 0);
+                }
+                sessions.forEach((email, digest, expiresAtMillis, version) ->
+                        writeCompacted(output, chunk, SAVED, version, email, digest, expiresAtMillis));
+                tombstones.forEach((email, tombstone) ->
+                        writeCompacted(output, chunk, REMOVED, tombstone.version(), email, null, tombstone.expiresAtMillis()));
+                writeFully(output, chunk);
+                output.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(compacted, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                channel = openLog();
+                compactedSize = channel.size();
+            }
+            log.info("Refresh token log compacted from {} to {} bytes", before, compactedSize);
+        }
+    }
+
+    private static void writeCompacted(FileChannel output, ByteBuffer chunk, byte type, long version, String email,
+                                       TokenDigest digest, long expiresAtMillis) {
+        final byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        if (emailBytes.length > MAX_EMAIL_LENGTH) {
+            return;
+        }
+        if (chunk.remaining() < MAX_RECORD_LENGTH) {
+            writeFully(output, chunk);
+        }
+        writeRecord(chunk, type, version, emailBytes, digest, expiresAtMillis);
+    }
+
+    private static void writeFully(FileChannel output, ByteBuffer chunk) {
+        chunk.flip();
+        try {
+            while (chunk.hasRemaining()) {
+                output.write(chunk);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear();
+    }
+
+    private FileChannel openLog() throws IOException {
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
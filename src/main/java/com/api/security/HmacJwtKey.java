@@ -0,0 +1,60 @@
+package com.api.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.NonNull;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * Class HmacJwtKey
+ *
+ * HMAC secret key together with everything that does not change between tokens signed with it:
+ * the JWS algorithm that jjwt selects for the key length, the encoded JWT header and a per-thread {@link Mac}.
+ * The key is shared by {@link JwtWriter} for minting and by {@link FastAccessTokenVerifier} for verification.
+ */
+@Getter
+public class HmacJwtKey {
+
+    private final SecretKey secretKey;
+    private final SignatureAlgorithm algorithm;
+    private final String encodedHeader;
+    private final byte[] signingPrefix;
+    private final int signatureLength;
+    @Getter(lombok.AccessLevel.NONE)
+    private final ThreadLocal<Mac> mac;
+
+    public HmacJwtKey(@NonNull SecretKey secretKey) {
+        this.secretKey = secretKey;
+        this.algorithm = SignatureAlgorithm.forSigningKey(secretKey);
+        this.encodedHeader = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("{\"alg\":\"" + algorithm.getValue() + "\"}").getBytes(StandardCharsets.US_ASCII));
+        this.signingPrefix = (encodedHeader + ".").getBytes(StandardCharsets.US_ASCII);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        this.signatureLength = mac.get().getMacLength();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(algorithm.getJcaName());
+            instance.init(secretKey);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + algorithm.getJcaName(), e);
+        }
+    }
+
+    /**
+     * Returns the {@link Mac} of the current thread, already initialized with the key.
+     * The instance is reset after every doFinal call, so it can be reused for the next token.
+     *
+     * @return the per-thread Mac.
+     */
+    public Mac mac() {
+        return mac.get();
+    }
+}
@@ -0,0 +1,13 @@
+package com.api.security;
+
+/**
+ * Record IssuedToken
+ *
+ * A freshly minted token together with its expiration, so that callers which keep track of the token
+ * (like {@link RefreshTokenStore}) do not have to parse it again.
+ *
+ * @param value the compact JWT.
+ * @param expiresAtMillis the "exp" claim of the token in epoch milliseconds.
+ */
+public record IssuedToken(String value, long expiresAtMillis) {
+}
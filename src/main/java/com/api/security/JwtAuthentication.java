@@ -24,6 +24,8 @@ public class JwtAuthentication implements Authentication {
     private String email;
     private String fullName;
     private Role role;
+    private String tokenId;
+    private long expiresAtMillis;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
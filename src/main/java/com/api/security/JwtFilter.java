@@ -1,26 +1,29 @@
 package com.api.security;
 
-import com.api.config.enums.Role;
+import com.api.config.SecurityConfig;
 import com.api.service.auth.AuthServiceImpl;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Class JwtFilter
  *
  * A filter that processes incoming requests with a JWT (JSON Web Token).
  * It checks for the presence of a token in the "Authorization" header and validates it.
- * If the token is valid, it extracts the user's details from the token and sets
+ * If the token is valid and was not revoked, it extracts the user's details from the token and sets
  * the authentication in the {@link SecurityContextHolder}.
  */
 @Component
@@ -29,8 +32,26 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION = "Authorization";
+    private static final RequestMatcher DOCUMENTATION_ENDPOINTS = new OrRequestMatcher(
+            Arrays.stream(SecurityConfig.DOCUMENTATION_ENDPOINTS)
+                    .map(pattern -> (RequestMatcher) new AntPathRequestMatcher(pattern))
+                    .toList());
     private final JwtProvider jwtProvider;
     private final AuthServiceImpl authServiceImpl;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList revocationList;
+
+    /**
+     * Skips the token parsing on the API documentation endpoints of {@link SecurityConfig}.
+     * The auth endpoints are filtered, since login is denied to authenticated users.
+     *
+     * @param request The HTTP request.
+     * @return true if the request goes to a documentation endpoint.
+     */
+    @Override
+    protected boolean shouldNotFilter(jakarta.servlet.http.HttpServletRequest request) {
+        return DOCUMENTATION_ENDPOINTS.matches(request);
+    }
 
     /**
      * Filters incoming HTTP requests to validate the presence and authenticity of a JWT (JSON Web Token).
@@ -55,17 +76,42 @@ public class JwtFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
             token = bearer.substring(7);
         }
-        if (token != null && jwtProvider.validateAccessToken(token)) {
-            final Claims claims = jwtProvider.getAccessClaims(token);
+        if (token != null) {
+            final VerifiedAccessToken verifiedToken = verifyAccessToken(token);
+            if (revocationList.isRevoked(verifiedToken.tokenId())) {
+                log.info("Revoked access token of {} was rejected", verifiedToken.email());
+                filterChain.doFilter(request, response);
+                return;
+            }
 
             final JwtAuthentication jwtAuthentication = new JwtAuthentication();
-            jwtAuthentication.setEmail(claims.getSubject());
-            jwtAuthentication.setRole(Role.valueOf(claims.get("role", String.class)));
-            jwtAuthentication.setAuthenticated(authServiceImpl.isUserLoggedIn(claims.getSubject()));
+            jwtAuthentication.setEmail(verifiedToken.email());
+            jwtAuthentication.setRole(verifiedToken.role());
+            jwtAuthentication.setTokenId(verifiedToken.tokenId());
+            jwtAuthentication.setExpiresAtMillis(verifiedToken.expiresAtMillis());
+            jwtAuthentication.setAuthenticated(authServiceImpl.isUserLoggedIn(verifiedToken.email()));
             SecurityContextHolder.getContext().setAuthentication(jwtAuthentication);
 
         }
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Returns the verified content of the access token.
+     * Tokens that were already verified are taken from the {@link VerifiedTokenCache},
+     * other tokens are validated by the {@link JwtProvider} and put into the cache.
+     *
+     * @param token the JWT access token from the "Authorization" header.
+     * @return the verified token subject, role and expiration.
+     */
+    private VerifiedAccessToken verifyAccessToken(String token) {
+        final TokenDigest digest = TokenDigest.of(token);
+        VerifiedAccessToken verifiedToken = verifiedTokenCache.get(digest);
+        if (verifiedToken == null) {
+            verifiedToken = jwtProvider.verifyAccessToken(token);
+            verifiedTokenCache.put(digest, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
 }
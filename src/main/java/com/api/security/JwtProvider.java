@@ -1,17 +1,19 @@
 package com.api.security;
 
+import com.api.config.enums.JwtClaimProfile;
+import com.api.config.enums.Role;
 import com.api.entity.User;
 import com.api.exception.AuthException;
+import com.api.security.JwtVerificationResult.FailureReason;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.NotNull;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -19,10 +21,8 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.security.Key;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.TimeZone;
+import java.time.Clock;
+import java.util.UUID;
 
 /**
  * Class JwtProvider
@@ -33,26 +33,47 @@ import java.util.TimeZone;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
+    private static final long ACCESS_TOKEN_TTL_MILLIS = 600_000; // 10 min
+    private static final long REFRESH_TOKEN_TTL_MILLIS = 86_400_000; // 24 hours
+
+    private final Clock clock;
+
     @Value("${jwt.access.path}")
     private String accessPath;
 
     @Value("${jwt.refresh.path}")
     private String refreshPath;
 
-    private SecretKey accessSecretKey;
-    private SecretKey refreshSecretKey;
+    @Value("${jwt.access.fast-verifier.enabled:false}")
+    private boolean fastVerifierEnabled;
+
+    @Value("${jwt.claims.profile:FULL}")
+    private JwtClaimProfile claimProfile = JwtClaimProfile.FULL;
+
+    private HmacJwtKey accessKey;
+    private HmacJwtKey refreshKey;
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
+    private FastAccessTokenVerifier fastAccessTokenVerifier;
 
     /**
      * Post construct for JwtProvider.
      *
-     * Read jwt tokens from a filepath that is defined in the application.properties.
+     * Read jwt tokens from a filepath that is defined in the application.properties
+     * and build the parsers once: they are immutable and thread-safe, so every request reuses them.
      */
     @PostConstruct
     public void init() throws IOException {
-        accessSecretKey = loadSecretKey(accessPath, "access");
-        refreshSecretKey = loadSecretKey(refreshPath, "refresh");
+        accessKey = new HmacJwtKey(loadSecretKey(accessPath, "access"));
+        refreshKey = new HmacJwtKey(loadSecretKey(refreshPath, "refresh"));
+        accessParser = Jwts.parserBuilder().setSigningKey(accessKey.getSecretKey()).build();
+        refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey.getSecretKey()).build();
+        if (fastVerifierEnabled) {
+            fastAccessTokenVerifier = new FastAccessTokenVerifier(accessKey);
+        }
     }
 
     private SecretKey loadSecretKey(String path, String type) throws IOException {
@@ -66,25 +87,26 @@ public class JwtProvider {
 
     /**
      * Generates an access token for the given user.
-     * The token contains the user's email, full name, role, and the issue and expiration dates.
+     * The token contains the user's email, role, a unique token id ("jti") that is used to revoke the token,
+     * and the issue and expiration dates (10 minutes);
+     * with the FULL claim profile it also contains the login and the full name.
      *
      * @param user the user for whom the access token is generated.
      * @return the generated JWT access token.
      */
     public String generateAccessToken(@NonNull User user) {
-
-        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Europe/Minsk"));
-        Date currentDate = calendar.getTime();
-        Date expirationDate = new Date(currentDate.getTime() + 600000); // 10 min
-
-        return Jwts.builder()
-                .setSubject(user.getEmail())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(expirationDate)
-                .claim("login", user.getEmail())
-                .claim("fullName", user.getFullName())
-                .claim("role", user.getRole())
-                .signWith(accessSecretKey)
+        final long now = clock.millis();
+        final JwtWriter writer = JwtWriter.with(accessKey)
+                .claim("sub", user.getEmail())
+                .claim("jti", UUID.randomUUID().toString())
+                .claim("iat", now / 1000)
+                .claim("exp", (now + ACCESS_TOKEN_TTL_MILLIS) / 1000);
+        if (claimProfile == JwtClaimProfile.FULL) {
+            writer.claim("login", user.getEmail())
+                    .claim("fullName", user.getFullName());
+        }
+        return writer
+                .claim("role", user.getRole() != null ? user.getRole().name() : null)
                 .compact();
     }
 
@@ -96,106 +118,96 @@ public class JwtProvider {
      * @return the generated JWT refresh token.
      */
     public String generateRefreshToken(@NotNull User user){
+        return issueRefreshToken(user).value();
+    }
 
-        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Europe/Minsk"));
-        Date currentDate = calendar.getTime();
-        Date expirationDate = new Date(currentDate.getTime() + 86400000);
-
-        return Jwts.builder()
-                .setSubject(user.getEmail())
-                .setExpiration(expirationDate) // 24 hours
-                .claim("role", user.getRole())
-                .signWith(refreshSecretKey)
+    /**
+     * Generates a refresh token for the given user and returns it together with its expiration.
+     *
+     * @param user the user for whom the refresh token is generated.
+     * @return the generated JWT refresh token and its "exp" claim in epoch milliseconds.
+     */
+    public IssuedToken issueRefreshToken(@NotNull User user){
+        final long expiration = (clock.millis() + REFRESH_TOKEN_TTL_MILLIS) / 1000;
+        final String token = JwtWriter.with(refreshKey)
+                .claim("sub", user.getEmail())
+                .claim("exp", expiration)
+                .claim("role", user.getRole() != null ? user.getRole().name() : null)
                 .compact();
+        return new IssuedToken(token, expiration * 1000);
     }
 
     /**
-     * Extracts the claims from a given JWT token using the provided secret key.
+     * Verifies the given access token and returns the part of it that is needed for the authentication.
+     * If the fast verifier is enabled it is tried first; any token it cannot handle is verified by jjwt.
      *
-     * @param token the JWT token to parse.
-     * @param secret the secret key used to validate the token.
-     * @return the claims contained in the JWT token.
+     * @param token the JWT access token to verify.
+     * @return the verified token subject, role, id and expiration.
+     * @throws AuthException if the token is not valid.
      */
-    private Claims getClaims(@NonNull String token, @NonNull Key secret) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public VerifiedAccessToken verifyAccessToken(@NonNull String token) {
+        if (fastAccessTokenVerifier != null) {
+            final VerifiedAccessToken verifiedToken = fastAccessTokenVerifier.verify(token, clock.millis());
+            if (verifiedToken != null) {
+                return verifiedToken;
+            }
+        }
+        final Claims claims = verifyAndExtractAccess(token).getClaimsOrThrow();
+        return new VerifiedAccessToken(
+                claims.getSubject(),
+                Role.valueOf(claims.get("role", String.class)),
+                claims.getId(),
+                claims.getExpiration().getTime());
     }
 
     /**
-     * Extracts the claims from the given access token.
+     * Verifies the given access token and extracts its claims in a single pass.
      *
-     * @param token the JWT access token to parse.
-     * @return the claims contained in the JWT access token.
+     * @param token the JWT access token to verify.
+     * @return the verified claims or the reason why the token was rejected.
      */
-    public Claims getAccessClaims(@NonNull String token) {
-        return getClaims(token, accessSecretKey);
+    public JwtVerificationResult verifyAndExtractAccess(@NonNull String token) {
+        return verifyAndExtract(token, accessParser);
     }
 
     /**
-     * Extracts the claims from the given refresh token.
+     * Verifies the given refresh token and extracts its claims in a single pass.
      *
-     * @param token the JWT refresh token to parse.
-     * @return the claims contained in the JWT refresh token.
+     * @param token the JWT refresh token to verify.
+     * @return the verified claims or the reason why the token was rejected.
      */
-    public Claims getRefreshClaims(@NonNull String token) {
-        return getClaims(token, refreshSecretKey);
+    public JwtVerificationResult verifyAndExtractRefresh(@NonNull String token) {
+        return verifyAndExtract(token, refreshParser);
     }
 
     /**
-     * Validates the given token using the provided secret key.
-     * If the token is expired, malformed, or has an invalid signature, an exception is thrown.
+     * Parses the token with the given prebuilt parser, which checks the signature and expiration
+     * and extracts the claims at the same time.
      *
-     * @param token the JWT token to validate.
-     * @param secret the secret key used to validate the token.
-     * @return true if the token is valid, otherwise throws an exception.
+     * @param token the JWT token to verify.
+     * @param parser the parser bound to the secret key of the token type.
+     * @return the verified claims or the reason why the token was rejected.
      */
-    private boolean validateToken(@NonNull String token, @NonNull Key secret) {
+    private JwtVerificationResult verifyAndExtract(@NonNull String token, @NonNull JwtParser parser) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secret)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return JwtVerificationResult.valid(parser.parseClaimsJws(token).getBody());
         } catch (ExpiredJwtException expEx) {
             log.error("Expired JWT token: {}", expEx.getMessage(), expEx);
-            throw new AuthException("Token expired: " + expEx.getMessage());
+            return JwtVerificationResult.failed(FailureReason.EXPIRED, "Token expired: " + expEx.getMessage());
         } catch (UnsupportedJwtException unsEx) {
             log.error("Unsupported JWT token: {}", unsEx.getMessage(), unsEx);
-            throw new AuthException("Unsupported JWT: " + unsEx.getMessage());
+            return JwtVerificationResult.failed(FailureReason.UNSUPPORTED, "Unsupported JWT: " + unsEx.getMessage());
         } catch (MalformedJwtException mjEx) {
             log.error("Malformed JWT token: {}", mjEx.getMessage(), mjEx);
-            throw new AuthException("Malformed JWT: " + mjEx.getMessage());
+            return JwtVerificationResult.failed(FailureReason.MALFORMED, "Malformed JWT: " + mjEx.getMessage());
         } catch (SignatureException sEx) {
             log.error("Invalid JWT signature: {}", sEx.getMessage(), sEx);
-            throw new AuthException("Invalid signature: " + sEx.getMessage());
+            return JwtVerificationResult.failed(FailureReason.INVALID_SIGNATURE, "Invalid signature: " + sEx.getMessage());
         } catch (Exception e) {
             log.error("Unknown JWT exception: {}", e.getMessage(), e);
-            throw new AuthException("Auth exception: " + e.getMessage());
+            return JwtVerificationResult.failed(FailureReason.UNKNOWN, "Auth exception: " + e.getMessage());
         }
     }
 
-    /**
-     * Validates the given access token.
-     *
-     * @param accessToken the JWT access token to validate.
-     * @return true if the access token is valid, false otherwise.
-     */
-    public boolean validateAccessToken(@NonNull String accessToken){
-        return validateToken(accessToken, accessSecretKey);
-    }
-
-    /**
-     * Validates the given refresh token.
-     *
-     * @param refreshToken the JWT refresh token to validate.
-     * @return true if the refresh token is valid, false otherwise.
-     */
-    public boolean validateRefreshToken(@NonNull String refreshToken){
-        return validateToken(refreshToken, refreshSecretKey);
-    }
-
 }
 
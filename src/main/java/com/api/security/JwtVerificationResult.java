@@ -0,0 +1,57 @@
+package com.api.security;
+
+import com.api.exception.AuthException;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+/**
+ * Class JwtVerificationResult
+ *
+ * Outcome of a single-pass JWT verification done by {@link JwtProvider}.
+ * Holds either the verified claims or the reason why the token was rejected.
+ */
+@Getter
+public class JwtVerificationResult {
+
+    /**
+     * The reason why a token was rejected.
+     */
+    public enum FailureReason {
+        EXPIRED, UNSUPPORTED, MALFORMED, INVALID_SIGNATURE, UNKNOWN
+    }
+
+    private final Claims claims;
+    private final FailureReason failureReason;
+    private final String message;
+
+    private JwtVerificationResult(Claims claims, FailureReason failureReason, String message) {
+        this.claims = claims;
+        this.failureReason = failureReason;
+        this.message = message;
+    }
+
+    static JwtVerificationResult valid(Claims claims) {
+        return new JwtVerificationResult(claims, null, null);
+    }
+
+    static JwtVerificationResult failed(FailureReason failureReason, String message) {
+        return new JwtVerificationResult(null, failureReason, message);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+
+    /**
+     * Returns the verified claims.
+     *
+     * @return the claims of the valid token.
+     * @throws AuthException if the token was rejected.
+     */
+    public Claims getClaimsOrThrow() {
+        if (claims == null) {
+            throw new AuthException(message);
+        }
+        return claims;
+    }
+}
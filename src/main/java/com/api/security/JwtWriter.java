@@ -0,0 +1,115 @@
+package com.api.security;
+
+import lombok.NonNull;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Class JwtWriter
+ *
+ * Lightweight JWS writer used for minting tokens. The header is the precomputed one of the {@link HmacJwtKey},
+ * the payload is written straight to JSON and signed with the per-thread {@link Mac} of the key,
+ * so no jjwt builder, claims map or JSON serializer is involved.
+ * The produced tokens are regular compact JWS strings that jjwt parses as usual.
+ */
+public class JwtWriter {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final HmacJwtKey key;
+    private final StringBuilder json = new StringBuilder(192).append('{');
+
+    private JwtWriter(HmacJwtKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Starts a new token signed with the given key.
+     *
+     * @param key the HMAC key of the token type.
+     * @return a writer with an empty payload.
+     */
+    public static JwtWriter with(@NonNull HmacJwtKey key) {
+        return new JwtWriter(key);
+    }
+
+    /**
+     * Adds a string claim. Null values are skipped, as jjwt does.
+     *
+     * @param name the claim name.
+     * @param value the claim value.
+     * @return this writer.
+     */
+    public JwtWriter claim(@NonNull String name, String value) {
+        if (value != null) {
+            appendName(name);
+            appendString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a numeric claim, e.g. "iat" or "exp" in epoch seconds.
+     *
+     * @param name the claim name.
+     * @param value the claim value.
+     * @return this writer.
+     */
+    public JwtWriter claim(@NonNull String name, long value) {
+        appendName(name);
+        json.append(value);
+        return this;
+    }
+
+    /**
+     * Signs the payload and builds the compact token.
+     *
+     * @return the compact JWS string.
+     */
+    public String compact() {
+        final byte[] payload = ENCODER.encode(json.append('}').toString().getBytes(StandardCharsets.UTF_8));
+        final Mac mac = key.mac();
+        mac.update(key.getSigningPrefix());
+        mac.update(payload);
+        final byte[] signature = ENCODER.encode(mac.doFinal());
+
+        final byte[] token = new byte[key.getSigningPrefix().length + payload.length + 1 + signature.length];
+        System.arraycopy(key.getSigningPrefix(), 0, token, 0, key.getSigningPrefix().length);
+        System.arraycopy(payload, 0, token, key.getSigningPrefix().length, payload.length);
+        token[key.getSigningPrefix().length + payload.length] = '.';
+        System.arraycopy(signature, 0, token, token.length - signature.length, signature.length);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    private void appendName(String name) {
+        if (json.length() > 1) {
+            json.append(',');
+        }
+        appendString(name);
+        json.append(':');
+    }
+
+    private void appendString(String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
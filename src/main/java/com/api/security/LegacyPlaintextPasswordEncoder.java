@@ -0,0 +1,43 @@
+package com.api.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Class LegacyPlaintextPasswordEncoder
+ *
+ * Matches the passwords that are still stored as plain text, without an "{id}" prefix.
+ * It is only used for matching: such passwords are rehashed on the next successful login.
+ * Nothing is ever encoded as plain text; {@link #encode} hands the password over to the encoder
+ * of the current hashes.
+ */
+public class LegacyPlaintextPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder currentEncoder;
+
+    public LegacyPlaintextPasswordEncoder(PasswordEncoder currentEncoder) {
+        this.currentEncoder = currentEncoder;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return currentEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                encodedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Class MemoryOnlyRefreshTokenBackend
+ *
+ * Default backend of {@link RefreshTokenStore}: nothing is persisted, so all sessions are lost on restart.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store.backend", havingValue = "memory", matchIfMissing = true)
+public class MemoryOnlyRefreshTokenBackend implements RefreshTokenBackend {
+
+    @Override
+    public void start(Sessions sessions) {
+    }
+
+    @Override
+    public void saved(String email, TokenDigest digest, long expiresAtMillis, long version) {
+    }
+
+    @Override
+    public void removed(String email, long expiresAtMillis, long version) {
+    }
+
+    @Override
+    public void cleared(long version) {
+    }
+}
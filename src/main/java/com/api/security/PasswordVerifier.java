@@ -0,0 +1,123 @@
+package com.api.security;
+
+import com.api.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class PasswordVerifier
+ *
+ * Runs the CPU-heavy password hash checks on a dedicated, bounded thread pool, so a login storm
+ * cannot occupy all request threads. When the queue is full the check is rejected right away
+ * with a {@link ServiceUnavailableException}, which is answered with 503 and a Retry-After header.
+ * If the stored hash is outdated (plain text or a lower cost) the new hash is computed in the same task.
+ */
+@Component
+public class PasswordVerifier {
+
+    /**
+     * The outcome of a password check.
+     *
+     * @param matches true if the password is correct.
+     * @param upgradedHash the new hash to store, or null if the stored hash is up to date or the password is wrong.
+     */
+    public record Result(boolean matches, String upgradedHash) {
+    }
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final LongAdder rejections = new LongAdder();
+
+    @Autowired
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Value("${security.password.verifier.threads:0}") int threads,
+                            @Value("${security.password.verifier.queue-capacity:64}") int queueCapacity,
+                            @Value("${security.password.verifier.timeout-ms:5000}") long timeoutMillis,
+                            @Value("${security.password.verifier.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Checks the password against the stored hash on the verification pool.
+     *
+     * @param rawPassword the password given by the user.
+     * @param encodedPassword the stored password hash.
+     * @return whether the password matches and the upgraded hash if the stored one is outdated.
+     * @throws ServiceUnavailableException if the pool is saturated or the check did not finish in time.
+     */
+    public Result verify(String rawPassword, String encodedPassword) {
+        final Future<Result> result;
+        try {
+            result = executor.submit(() -> check(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceUnavailableException("Too many login attempts, try again later", retryAfterSeconds);
+        }
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejections.increment();
+            throw new ServiceUnavailableException("Password verification timed out, try again later", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new ServiceUnavailableException("Password verification was interrupted", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Result check(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || !passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return new Result(false, null);
+        }
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return new Result(true, null);
+        }
+        return new Result(true, passwordEncoder.encode(rawPassword));
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+}
@@ -0,0 +1,258 @@
+package com.api.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class PostgresRefreshTokenBackend
+ *
+ * Backend of {@link RefreshTokenStore} that shares the sessions between application instances through
+ * the refresh_sessions table. Every instance keeps all sessions in its own store, which works as a near-cache:
+ * requests are still authenticated from memory. Each change is written to the table together with
+ * a NOTIFY on the refresh_sessions channel, and a listener thread applies the notifications to the local store.
+ *
+ * <p>The table is authoritative. A write only replaces a row with a lower version, and a removal is written
+ * as a row without token, so the row of a user is always the newest change. PostgreSQL delivers
+ * the notifications in commit order, and every instance applies all of them, its own included,
+ * so when two instances change the same user at once both end up with the row that was committed.
+ * After (re)connecting the listener reloads the whole table, so notifications missed while the connection
+ * was down are not lost. The table is created by the database migrations.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store.backend", havingValue = "postgres")
+public class PostgresRefreshTokenBackend implements RefreshTokenBackend {
+
+    static final String CHANNEL = "refresh_sessions";
+    private static final String TABLE = "task_management_system.refresh_sessions";
+    private static final char SAVED = 'S';
+    private static final char REMOVED = 'R';
+    private static final char CLEARED = 'C';
+
+    private static final String UPSERT = "WITH saved AS ("
+            + "INSERT INTO " + TABLE + " AS s (email, token_high, token_low, expires_at, version) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (email) DO UPDATE SET token_high = EXCLUDED.token_high, token_low = EXCLUDED.token_low, "
+            + "expires_at = EXCLUDED.expires_at, version = EXCLUDED.version "
+            + "WHERE s.version < EXCLUDED.version RETURNING email) "
+            + "SELECT pg_notify('" + CHANNEL + "', ?) FROM saved";
+    private static final String DELETE_ALL = "WITH removed AS (DELETE FROM " + TABLE + " RETURNING email) "
+            + "SELECT pg_notify('" + CHANNEL + "', ?)";
+    private static final String DELETE_EXPIRED = "DELETE FROM " + TABLE + " WHERE expires_at <= ?";
+    private static final String SELECT_LIVE = "SELECT email, token_high, token_low, expires_at, version FROM " + TABLE
+            + " WHERE expires_at > ?";
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final long pollTimeoutMillis;
+    private final long cleanupIntervalMillis;
+    private volatile boolean running;
+    private Sessions sessions;
+    private Thread listener;
+
+    @Autowired
+    public PostgresRefreshTokenBackend(DataSource dataSource,
+                                       Clock clock,
+                                       @Value("${jwt.refresh.store.postgres.poll-timeout-ms:1000}") long pollTimeoutMillis,
+                                       @Value("${jwt.refresh.store.postgres.cleanup-interval-ms:600000}") long cleanupIntervalMillis) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.clock = clock;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.cleanupIntervalMillis = cleanupIntervalMillis;
+    }
+
+    /**
+     * Subscribes to the channel and loads the table before the store starts serving requests,
+     * then hands the connection over to the listener thread.
+     */
+    @Override
+    public void start(Sessions sessions) {
+        this.sessions = sessions;
+        final Connection connection;
+        try {
+            connection = listen();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot listen on " + CHANNEL + ": " + e.getMessage(), e);
+        }
+        running = true;
+        listener = new Thread(() -> listenLoop(connection), "refresh-session-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public void saved(String email, TokenDigest digest, long expiresAtMillis, long version) {
+        final String payload = SAVED + "|" + version + "|" + digest.high() + "|" + digest.low() + "|" + expiresAtMillis + "|" + email;
+        update(UPSERT, email, digest.high(), digest.low(), expiresAtMillis, version, payload);
+    }
+
+    @Override
+    public void removed(String email, long expiresAtMillis, long version) {
+        update(UPSERT, email, 0, 0, 0, version, REMOVED + "|" + version + "|" + email);
+    }
+
+    @Override
+    public void cleared(long version) {
+        update(DELETE_ALL, String.valueOf(CLEARED));
+    }
+
+    /**
+     * Runs the write and its notification as one statement. A write that is older than the row sends
+     * no notification; the newer one that beat it is applied instead. A failed write is logged and the local
+     * store keeps the change, so the user is not rejected on this instance because of the shared table.
+     */
+    private void update(String sql, Object... args) {
+        try {
+            jdbcTemplate.query(sql, IGNORE_RESULT, args);
+        } catch (DataAccessException e) {
+            log.error("Cannot write refresh session: {}", e.getMessage(), e);
+        }
+    }
+
+    private Connection listen() throws SQLException {
+        final Connection connection = dataSource.getConnection();
+        try {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+            reload();
+            return connection;
+        } catch (SQLException | DataAccessException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Brings the local sessions in line with the live rows of the table. Rows are restored first and
+     * the sessions missing from the table are forgotten afterwards, so logged-in users never disappear
+     * from the store in between.
+     */
+    private void reload() {
+        final Set<String> emails = new HashSet<>();
+        jdbcTemplate.query(SELECT_LIVE, (ResultSet rs) -> {
+            final String email = rs.getString(1);
+            emails.add(email);
+            sessions.restore(email, new TokenDigest(rs.getLong(2), rs.getLong(3)), rs.getLong(4), rs.getLong(5));
+        }, clock.millis());
+        final Map<String, Long> missing = new HashMap<>();
+        sessions.forEach((email, digest, expiresAtMillis, version) -> {
+            if (!emails.contains(email)) {
+                missing.put(email, version);
+            }
+        });
+        missing.forEach(sessions::forget);
+    }
+
+    private void listenLoop(Connection initialConnection) {
+        Connection connection = initialConnection;
+        long nextCleanup = clock.millis() + cleanupIntervalMillis;
+        while (running) {
+            try {
+                if (connection == null) {
+                    connection = listen();
+                    log.info("Reconnected to {} and reloaded refresh sessions", CHANNEL);
+                }
+                final PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                        .getNotifications((int) pollTimeoutMillis);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        try {
+                            apply(notification.getParameter());
+                        } catch (RuntimeException e) {
+                            log.error("Cannot apply refresh session notification: {}", e.getMessage(), e);
+                        }
+                    }
+                }
+                if (clock.millis() >= nextCleanup) {
+                    jdbcTemplate.update(DELETE_EXPIRED, clock.millis());
+                    nextCleanup = clock.millis() + cleanupIntervalMillis;
+                }
+            } catch (SQLException | DataAccessException e) {
+                if (!running) {
+                    break;
+                }
+                log.error("Refresh session listener failed: {}", e.getMessage(), e);
+                close(connection);
+                connection = null;
+                try {
+                    Thread.sleep(pollTimeoutMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        close(connection);
+    }
+
+    /**
+     * Applies a committed change to the local store. The store ignores a change that is older than
+     * its session, so the own changes of this instance are applied again without harm.
+     * A malformed payload is logged and skipped.
+     */
+    void apply(String payload) {
+        if (payload == null || payload.isEmpty()) {
+            log.warn("Empty refresh session notification");
+            return;
+        }
+        final char type = payload.charAt(0);
+        final String[] parts = payload.split("\\|", type == SAVED ? 6 : 3);
+        try {
+            if (type == SAVED && parts.length == 6 && !parts[5].isEmpty()) {
+                sessions.restore(parts[5], new TokenDigest(Long.parseLong(parts[2]), Long.parseLong(parts[3])),
+                        Long.parseLong(parts[4]), Long.parseLong(parts[1]));
+            } else if (type == REMOVED && parts.length == 3 && !parts[2].isEmpty()) {
+                sessions.forget(parts[2], Long.parseLong(parts[1]));
+            } else if (type == CLEARED && parts.length == 1) {
+                sessions.forgetAll();
+            } else {
+                log.warn("Malformed refresh session notification of type {}", type);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Malformed refresh session notification of type {}", type);
+        }
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Cannot close refresh session listener connection: {}", e.getMessage());
+        }
+    }
+}
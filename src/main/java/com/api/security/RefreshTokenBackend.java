@@ -0,0 +1,58 @@
+package com.api.security;
+
+/**
+ * Interface RefreshTokenBackend
+ *
+ * Persistence behind {@link RefreshTokenStore}. The store keeps serving every lookup from memory and tells
+ * the backend about each change; the backend gives the sessions back to the store when the application starts.
+ * The calls are made after the store has changed and without holding any of its locks, so two changes
+ * of the same user can reach the backend in either order. Every change carries a version that grows
+ * with each change of the store; the backend keeps the change with the highest version of each user.
+ */
+public interface RefreshTokenBackend {
+
+    /**
+     * Restores the persisted sessions into the store and keeps a reference to it for later use
+     * (compaction, changes made by other nodes).
+     *
+     * @param sessions the sessions of the store.
+     */
+    void start(Sessions sessions);
+
+    void saved(String email, TokenDigest digest, long expiresAtMillis, long version);
+
+    /**
+     * @param expiresAtMillis the expiration of the removed session; an older save of the user cannot outlive it.
+     */
+    void removed(String email, long expiresAtMillis, long version);
+
+    /**
+     * @param version the version of the clear; changes with a lower version were made before it.
+     */
+    void cleared(long version);
+
+    /**
+     * The view of {@link RefreshTokenStore} that is handed to the backend.
+     * Changes made through it are not reported back to the backend. A change that is older than
+     * the session in the store is ignored.
+     */
+    interface Sessions {
+
+        void restore(String email, TokenDigest digest, long expiresAtMillis, long version);
+
+        void forget(String email, long version);
+
+        void forgetAll();
+
+        /**
+         * Visits every session that is not expired.
+         */
+        void forEach(SessionVisitor visitor);
+    }
+
+    @FunctionalInterface
+    interface SessionVisitor {
+
+        void visit(String email, TokenDigest digest, long expiresAtMillis, long version);
+    }
+}
@@ -1,46 +1,280 @@
 package com.api.security;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Class RefreshTokenStore
+ *
+ * Keeps the refresh token of every logged-in user. Only a fixed-size {@link TokenDigest} of the token is stored,
+ * together with the token expiration. Expired sessions are removed by a background sweeper that walks
+ * an {@link ExpirationWheel}, so a user who never logs out does not stay in memory after the token expires.
+ * The number of sessions is capped: when the store is full, the session that expires first is evicted.
+ * Every change is also handed to the {@link RefreshTokenBackend}, which restores the sessions on startup.
+ * The backend is called after the entry has been changed and outside of the map locks, so a slow backend
+ * never blocks other users. Each change gets a version from a clock that never goes backwards; the backend
+ * uses it to drop a change that reaches it after a newer change of the same user.
+ */
 @Slf4j
 @Component
 public class RefreshTokenStore {
 
-    private final ConcurrentMap<String, String> tokens = new ConcurrentHashMap<>();
+    private static final int WHEEL_SLOTS = 1024;
 
-    public boolean putIfAbsent(String email, String token) {
-        return tokens.putIfAbsent(email, token) == null;
+    private record Session(TokenDigest digest, long expiresAtMillis, long version) {
+
+        boolean isExpiredAt(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    private final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long sweepIntervalMillis;
+    private final Clock clock;
+    private final ExpirationWheel wheel;
+    private final RefreshTokenBackend backend;
+    private final AtomicLong versions = new AtomicLong();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    public RefreshTokenStore(@Value("${jwt.refresh.store.max-size:100000}") int maxSize,
+                             @Value("${jwt.refresh.store.sweep-interval-ms:60000}") long sweepIntervalMillis,
+                             Clock clock,
+                             RefreshTokenBackend backend) {
+        this.maxSize = maxSize;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.clock = clock;
+        this.wheel = new ExpirationWheel(WHEEL_SLOTS, sweepIntervalMillis, clock.millis());
+        this.backend = backend;
+    }
+
+    @PostConstruct
+    public void start() {
+        backend.start(new BackendSessions());
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Stores the refresh token of the user unless the user already has a session that is not expired.
+     *
+     * @param email the user email.
+     * @param token the refresh token.
+     * @param expiresAtMillis the token expiration in epoch milliseconds.
+     * @return true if the token was stored.
+     */
+    public boolean putIfAbsent(String email, String token, long expiresAtMillis) {
+        final long now = clock.millis();
+        final TokenDigest digest = TokenDigest.of(token);
+        ensureCapacity();
+        final Session[] created = {null};
+        sessions.compute(email, (key, current) -> {
+            if (current != null && !current.isExpiredAt(now)) {
+                return current;
+            }
+            created[0] = new Session(digest, expiresAtMillis, nextVersion());
+            return created[0];
+        });
+        return stored(email, created[0]);
     }
 
     public boolean validateToken(String email, String token) {
-        return token.equals(tokens.get(email));
+        final Session session = sessions.get(email);
+        return session != null
+                && !session.isExpiredAt(clock.millis())
+                && session.digest().equals(TokenDigest.of(token));
     }
 
-    public void updateToken(String email, String token) {
-        tokens.put(email, token);
+    /**
+     * Replaces the refresh token of the user, but only if the current one is still the old token.
+     *
+     * @param email the user email.
+     * @param oldToken the refresh token that is replaced.
+     * @param newToken the new refresh token.
+     * @param newExpiresAtMillis the new token expiration in epoch milliseconds.
+     * @return true if the token was replaced.
+     */
+    public boolean updateToken(String email, String oldToken, String newToken, long newExpiresAtMillis) {
+        final TokenDigest oldDigest = TokenDigest.of(oldToken);
+        final TokenDigest newDigest = TokenDigest.of(newToken);
+        final Session[] created = {null};
+        sessions.computeIfPresent(email, (key, current) -> {
+            if (!current.digest().equals(oldDigest)) {
+                return current;
+            }
+            created[0] = new Session(newDigest, newExpiresAtMillis, nextVersion());
+            return created[0];
+        });
+        return stored(email, created[0]);
     }
 
-    public void updateToken(String email, String oldToken, String newToken) {
-        tokens.replace(email, oldToken, newToken);
+    private boolean stored(String email, Session session) {
+        if (session == null) {
+            return false;
+        }
+        wheel.schedule(email, session.expiresAtMillis());
+        backend.saved(email, session.digest(), session.expiresAtMillis(), session.version());
+        return true;
     }
 
     public void invalidate(String email) {
-        tokens.remove(email);
+        remove(email);
     }
 
     public boolean contains(String email) {
-        return tokens.containsKey(email);
+        final Session session = sessions.get(email);
+        return session != null && !session.isExpiredAt(clock.millis());
     }
 
-    public String get(String email) {
-        return tokens.get(email);
+    public void clear() {
+        final long version = nextVersion();
+        sessions.clear();
+        wheel.clear();
+        backend.cleared(version);
     }
 
-    public void clear() {
-        tokens.clear();
+    public int size() {
+        return sessions.size();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Removes the sessions whose tokens have expired since the previous sweep.
+     */
+    void sweep() {
+        try {
+            final long now = clock.millis();
+            wheel.advance(now, this::expirationOf, email -> {
+                final Session session = sessions.get(email);
+                if (session != null && session.isExpiredAt(now) && sessions.remove(email, session)) {
+                    expirations.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Refresh token sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void ensureCapacity() {
+        while (sessions.size() >= maxSize) {
+            final String email = wheel.pollEarliest(this::expirationOf);
+            if (email == null) {
+                return;
+            }
+            if (remove(email)) {
+                evictions.increment();
+                log.debug("Refresh token store is full, the session that expires first was evicted");
+            }
+        }
+    }
+
+    private boolean remove(String email) {
+        final long[] removed = {0, 0};
+        sessions.computeIfPresent(email, (key, current) -> {
+            removed[0] = current.expiresAtMillis();
+            removed[1] = nextVersion();
+            return null;
+        });
+        if (removed[1] == 0) {
+            return false;
+        }
+        backend.removed(email, removed[0], removed[1]);
+        return true;
+    }
+
+    /**
+     * Hybrid logical clock: the wall clock in microseconds, but always above every version this store
+     * has issued or received, so versions keep growing even if the wall clock goes back.
+     */
+    private long nextVersion() {
+        final long wallClock = clock.millis() * 1000;
+        return versions.updateAndGet(last -> Math.max(last + 1, wallClock));
+    }
+
+    private void observeVersion(long version) {
+        versions.accumulateAndGet(version, Math::max);
+    }
+
+    private long expirationOf(String email) {
+        final Session session = sessions.get(email);
+        return session != null ? session.expiresAtMillis() : -1;
+    }
+
+    /**
+     * The store as seen by the backend: restored and forgotten sessions are not reported back to it.
+     * A change is applied only if it is not older than the session in the store.
+     */
+    private class BackendSessions implements RefreshTokenBackend.Sessions {
+
+        @Override
+        public void restore(String email, TokenDigest digest, long expiresAtMillis, long version) {
+            if (expiresAtMillis <= clock.millis()) {
+                forget(email, version);
+                return;
+            }
+            observeVersion(version);
+            final Session session = new Session(digest, expiresAtMillis, version);
+            final Session stored = sessions.compute(email, (key, current) ->
+                    current == null || current.version() <= version && !current.equals(session) ? session : current);
+            if (stored == session) {
+                wheel.schedule(email, expiresAtMillis);
+            }
+        }
+
+        @Override
+        public void forget(String email, long version) {
+            observeVersion(version);
+            sessions.computeIfPresent(email, (key, current) -> current.version() <= version ? null : current);
+        }
+
+        @Override
+        public void forgetAll() {
+            sessions.clear();
+            wheel.clear();
+        }
+
+        @Override
+        public void forEach(RefreshTokenBackend.SessionVisitor visitor) {
+            final long now = clock.millis();
+            sessions.forEach((email, session) -> {
+                if (!session.isExpiredAt(now)) {
+                    visitor.visit(email, session.digest(), session.expiresAtMillis(), session.version());
+                }
+            });
+        }
     }
 }
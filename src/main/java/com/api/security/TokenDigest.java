@@ -0,0 +1,39 @@
+package com.api.security;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Class TokenDigest
+ *
+ * Fixed-size fingerprint of a JWT string: the first 128 bits of its SHA-256 hash.
+ * Used as a map key wherever the raw token string does not have to be kept in memory.
+ *
+ * @param high the first 64 bits of the hash.
+ * @param low the next 64 bits of the hash.
+ */
+public record TokenDigest(long high, long low) {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    /**
+     * Computes the digest of the given token.
+     *
+     * @param token the JWT string (only base64url characters and dots).
+     * @return the digest of the token.
+     */
+    public static TokenDigest of(@NonNull String token) {
+        ByteBuffer hash = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong());
+    }
+}
@@ -0,0 +1,26 @@
+package com.api.security;
+
+import com.api.config.enums.Role;
+
+/**
+ * Class VerifiedAccessToken
+ *
+ * The part of an already verified access token that is needed to build a {@link JwtAuthentication}.
+ *
+ * @param email the token subject (user email).
+ * @param role the user role from the "role" claim.
+ * @param tokenId the "jti" claim of the token, null for tokens issued without it.
+ * @param expiresAtMillis the "exp" claim of the token in epoch milliseconds.
+ */
+public record VerifiedAccessToken(String email, Role role, String tokenId, long expiresAtMillis) {
+
+    /**
+     * Checks whether the token is expired at the given moment.
+     *
+     * @param nowMillis the current time in epoch milliseconds.
+     * @return true if the token must not be used anymore.
+     */
+    public boolean isExpiredAt(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,127 @@
+package com.api.security;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class VerifiedTokenCache
+ *
+ * Bounded cache of access tokens whose signature and claims were already verified.
+ * Clients reuse one access token for its whole lifetime, so a cache hit lets {@link JwtFilter}
+ * build the authentication without parsing the token and checking its HMAC again.
+ * Entries are keyed by a {@link TokenDigest} of the token and are dropped at the token "exp" claim.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final ConcurrentMap<TokenDigest, VerifiedAccessToken> tokens = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxSize;
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.access.cache.max-size:10000}") int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the verified token for the given digest if it is cached and not expired yet.
+     *
+     * @param digest the digest of the access token.
+     * @return the cached token or null if the token has to be verified.
+     */
+    public VerifiedAccessToken get(@NonNull TokenDigest digest) {
+        final VerifiedAccessToken token = tokens.get(digest);
+        if (token == null) {
+            misses.increment();
+            return null;
+        }
+        if (token.isExpiredAt(clock.millis())) {
+            if (tokens.remove(digest, token)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return token;
+    }
+
+    /**
+     * Stores a freshly verified token.
+     * If the cache is full, expired entries are removed first and then, if needed, an arbitrary entry.
+     *
+     * @param digest the digest of the access token.
+     * @param token the verified token.
+     */
+    public void put(@NonNull TokenDigest digest, @NonNull VerifiedAccessToken token) {
+        final long now = clock.millis();
+        if (token.isExpiredAt(now) || maxSize <= 0) {
+            return;
+        }
+        if (tokens.size() >= maxSize) {
+            evictExpired(now);
+        }
+        if (tokens.size() >= maxSize) {
+            evictAny();
+        }
+        tokens.put(digest, token);
+    }
+
+    private void evictExpired(long now) {
+        final Iterator<Map.Entry<TokenDigest, VerifiedAccessToken>> iterator = tokens.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isExpiredAt(now)) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private void evictAny() {
+        final Iterator<TokenDigest> iterator = tokens.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public void clear() {
+        tokens.clear();
+    }
+}
@@ -2,14 +2,18 @@ package com.api.service;
 
 import com.api.dto.CommentNoIdDto;
 import com.api.dto.CommentDto;
+import com.api.dto.view.CommentView;
 import com.api.entity.Comment;
+import com.api.mapper.CommentMapper;
 import com.api.repository.CommentRepository;
 import com.api.repository.TaskRepository;
 import com.api.service.interfaces.CommentService;
+import com.api.service.paging.CountEstimator;
+import com.api.service.paging.CountStrategy;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import java.util.UUID;
 
@@ -17,13 +21,15 @@ import java.util.UUID;
  * Class CommentServiceImpl
  *
  * Service implementation for handling operations related to comments, including adding and retrieving comments by task ID.
+ * The listings read {@link CommentView} projections instead of entities.
  */
 @Service
 @AllArgsConstructor
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
-    private final ModelMapper modelMapper;
+    private final CommentMapper commentMapper;
+    private final CountEstimator countEstimator;
 
     /**
      * Adds a new comment to a task.
@@ -34,10 +40,10 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public CommentDto addComment(UUID taskId, CommentNoIdDto commentNoIdDto) {
-        Comment comment = modelMapper.map(commentNoIdDto, Comment.class);
+        Comment comment = commentMapper.toEntity(commentNoIdDto);
         comment.setTask(taskRepository.getById(taskId));
         commentRepository.save(comment);
-        return modelMapper.map(comment, CommentDto.class);
+        return commentMapper.toDto(comment);
     }
 
     /**
@@ -49,7 +55,25 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public Page<CommentDto> findAllByTaskId(UUID idTask, Pageable pageable) {
-        return commentRepository.findAllByTaskId(idTask, pageable)
-                .map(comment -> modelMapper.map(comment, CommentDto.class));
+        return commentRepository.findViewsByTaskId(idTask, pageable).map(CommentView::toDto);
+    }
+
+    /**
+     * Retrieves the comments of a specific task with the given count strategy.
+     *
+     * @param idTask The ID of the task whose comments are to be retrieved.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @param count How the total number of comments is produced.
+     * @return A {@link Page} of {@link CommentDto}, or a {@link Slice} without a total for {@link CountStrategy#NONE}.
+     */
+    @Override
+    public Slice<CommentDto> findAllByTaskId(UUID idTask, Pageable pageable, CountStrategy count) {
+        return switch (count) {
+            case EXACT -> findAllByTaskId(idTask, pageable);
+            case NONE -> commentRepository.findViewSliceByTaskId(idTask, pageable).map(CommentView::toDto);
+            case ESTIMATED -> CountEstimator.toPage(
+                    commentRepository.findViewSliceByTaskId(idTask, pageable).map(CommentView::toDto),
+                    countEstimator.cachedCount("comments.task:" + idTask, () -> commentRepository.countByTaskId(idTask)));
+        };
     }
 }
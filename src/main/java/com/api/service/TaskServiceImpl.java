@@ -1,37 +1,75 @@
 package com.api.service;
 
+import com.api.config.enums.Role;
+import com.api.dto.CursorPageDto;
 import com.api.dto.IdDto;
+import com.api.dto.TaskBatchResultDto;
+import com.api.dto.TaskBulkResultDto;
+import com.api.dto.TaskBulkUpdateDto;
 import com.api.dto.TaskDto;
 import com.api.dto.TaskNoIdDto;
+import com.api.dto.view.TaskView;
 import com.api.entity.Task;
 import com.api.exception.BadRequestException;
+import com.api.mapper.TaskMapper;
+import com.api.repository.CommentRepository;
 import com.api.repository.TaskRepository;
+import com.api.repository.TaskUpdateRepository;
+import com.api.repository.TaskUpdateRepository.Outcome;
+import com.api.repository.TaskUpdateRepository.TaskChange;
+import com.api.security.JwtAuthentication;
+import com.api.service.batch.TaskBatchCreator;
+import com.api.service.batch.TaskBulkUpdater;
 import com.api.service.executor.interfaces.InternalTaskExecutor;
+import com.api.service.export.TaskExporter;
 import com.api.service.interfaces.TaskService;
+import com.api.service.paging.CountEstimator;
+import com.api.service.paging.CountStrategy;
+import com.api.service.patch.TaskMergePatch;
 import com.api.service.validation.TaskValidator;
+import com.api.util.Cursors;
+import com.api.util.TaskPermissionChecker;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
 /**
  * Class TaskServiceImpl
  *
  * Service implementation for managing tasks, including adding, updating, deleting, and retrieving tasks.
+ * The listings read {@link TaskView} projections instead of entities, so no task is hydrated,
+ * kept in the persistence context or mapped only to be serialized. Entities are converted by the
+ * generated {@link TaskMapper}.
  */
 @Slf4j
 @Service
 @AllArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final String TASKS_TABLE = "task_management_system.tasks";
+
     private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
     private final TaskValidator taskValidator;
     private final InternalTaskExecutor internalTaskExecutor;
-    private final ModelMapper modelMapper;
+    private final TaskMapper taskMapper;
+    private final TaskPermissionChecker taskPermissionChecker;
+    private final CountEstimator countEstimator;
+    private final TaskBatchCreator taskBatchCreator;
+    private final TaskBulkUpdater taskBulkUpdater;
+    private final TaskExporter taskExporter;
 
     /**
      * Adds a new task.
@@ -41,12 +79,42 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskDto addTask(TaskNoIdDto taskNoIdDto) {
-        Task task = taskRepository.save(modelMapper.map(taskNoIdDto, Task.class));
-        return modelMapper.map(task, TaskDto.class);
+        Task task = taskRepository.save(taskMapper.toEntity(taskNoIdDto));
+        return taskMapper.toDto(task);
+    }
+
+    /**
+     * Adds many tasks at once, see {@link TaskBatchCreator}.
+     *
+     * @param tasks The DTOs containing the task data (without IDs).
+     * @return A {@link TaskBatchResultDto} with the result of every item.
+     * @throws BadRequestException If the batch size is not valid or a user was deleted meanwhile.
+     */
+    @Override
+    public TaskBatchResultDto addTasks(List<TaskNoIdDto> tasks) {
+        try {
+            return taskBatchCreator.create(tasks);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("There is no such user");
+        }
+    }
+
+    /**
+     * Changes the status or the executor of many tasks with one set-based statement, see {@link TaskBulkUpdater}.
+     *
+     * @param change The selection and the new values.
+     * @param authentication The authentication of the caller.
+     * @return A {@link TaskBulkResultDto} with the counts of changed, unchanged, denied and missing tasks.
+     * @throws BadRequestException If the change is not valid or the new executor does not exist.
+     */
+    @Override
+    public TaskBulkResultDto updateTasks(TaskBulkUpdateDto change, JwtAuthentication authentication) {
+        return taskBulkUpdater.update(change, authentication.getEmail(), authentication.getRole() == Role.ADMIN);
     }
 
     /**
      * Updates an existing task.
+     * The fields are copied onto the loaded task and written by dirty checking; its comments are never loaded.
      *
      * @param taskDto The DTO containing the updated task data (with ID).
      * @return A {@link TaskDto} representing the updated task.
@@ -56,13 +124,13 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public TaskDto updateTask(TaskDto taskDto) {
         Task taskExisting = taskValidator.findByIdOrThrowBadRequest(taskDto.getId());
-        Task newTask = modelMapper.map(taskDto, Task.class);
-        Task updatedTask = taskRepository.save(internalTaskExecutor.updateTask(taskExisting, newTask));
-        return modelMapper.map(updatedTask, TaskDto.class);
+        Task updatedTask = internalTaskExecutor.updateTask(taskExisting, taskMapper.toEntity(taskDto));
+        taskPermissionChecker.invalidate(updatedTask.getId());
+        return taskMapper.toDto(updatedTask);
     }
 
     /**
-     * Updates the status of a task.
+     * Updates the status of a task with one conditional statement, see {@link TaskUpdateRepository}.
      *
      * @param taskId The ID of the task to update.
      * @param newStatus The new status to set for the task.
@@ -70,24 +138,55 @@ public class TaskServiceImpl implements TaskService {
      * @throws BadRequestException If the task does not exist or if the new status is the same as the current status.
      */
     @Override
-    @Transactional
     public TaskDto updateTaskStatus(UUID taskId, String newStatus) {
-        Task task = taskValidator.findByIdOrThrowBadRequest(taskId);
-        return modelMapper.map(
-                taskRepository.save(internalTaskExecutor.updateTaskStatus(task, newStatus)),
-                TaskDto.class
-        );
+        TaskChange change = taskRepository.updateStatus(taskId, newStatus);
+        return switch (change.outcome()) {
+            case NOT_FOUND -> throw new BadRequestException("There is no such task");
+            case UNCHANGED -> throw new BadRequestException("The new status must be different from the current status");
+            case UPDATED -> change.task().toDto();
+        };
     }
 
     /**
-     * Deletes a task.
+     * Applies a JSON Merge Patch to a task with one statement that writes only the patched columns.
+     * A patch that changes nothing writes nothing and returns the task as it is.
+     *
+     * @param taskId The ID of the task to patch.
+     * @param patch The patch.
+     * @return A {@link TaskDto} representing the task after the patch.
+     * @throws BadRequestException If the task or a referenced user does not exist.
+     */
+    @Override
+    public TaskDto patchTask(UUID taskId, TaskMergePatch patch) {
+        TaskChange change;
+        try {
+            change = taskRepository.update(taskId, patch.columns());
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("There is no such user");
+        }
+        if (change.outcome() == Outcome.NOT_FOUND) {
+            throw new BadRequestException("There is no such task");
+        }
+        if (change.outcome() == Outcome.UPDATED && patch.changesExecutor()) {
+            taskPermissionChecker.invalidate(taskId);
+        }
+        return change.task().toDto();
+    }
+
+    /**
+     * Deletes a task and its comments with two set-based statements; neither is loaded.
      *
      * @param idDto The DTO containing the ID of the task to delete.
+     * @throws BadRequestException If the task does not exist.
      */
+    @Transactional
     @Override
     public void deleteTask(IdDto idDto) {
-        taskValidator.findByIdOrThrowBadRequest(idDto.id());
-        taskRepository.deleteById(idDto.id());
+        commentRepository.deleteAllByTaskIdInBulk(idDto.id());
+        if (taskRepository.deleteByIdInBulk(idDto.id()) == 0) {
+            throw new BadRequestException("There is no such task");
+        }
+        taskPermissionChecker.invalidate(idDto.id());
     }
 
     /**
@@ -98,8 +197,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public Page<TaskDto> findAll(Pageable pageable) {
-        return taskRepository.findAll(pageable)
-                .map(task -> modelMapper.map(task, TaskDto.class));
+        return taskRepository.findAllViews(pageable).map(TaskView::toDto);
     }
 
     /**
@@ -111,8 +209,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public Page<TaskDto> findAllByCreator(UUID idCreator, Pageable pageable) {
-        return taskRepository.findAllByCreatorId(idCreator, pageable)
-                .map(task -> modelMapper.map(task, TaskDto.class));
+        return taskRepository.findViewsByCreatorId(idCreator, pageable).map(TaskView::toDto);
     }
 
     /**
@@ -124,8 +221,132 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public Page<TaskDto> findAllByExecutor(UUID idExecutor, Pageable pageable) {
-        return taskRepository.findAllByExecutorId(idExecutor, pageable)
-                .map(task -> modelMapper.map(task, TaskDto.class));
+        return taskRepository.findViewsByExecutorId(idExecutor, pageable).map(TaskView::toDto);
+    }
+
+    /**
+     * Retrieves all tasks with the given count strategy.
+     * The estimated total comes from the planner statistics of the tasks table.
+     *
+     * @param pageable The pagination information (e.g., page number, size).
+     * @param count How the total number of tasks is produced.
+     * @return A {@link Page} of {@link TaskDto}, or a {@link Slice} without a total for {@link CountStrategy#NONE}.
+     */
+    @Override
+    public Slice<TaskDto> findAll(Pageable pageable, CountStrategy count) {
+        return switch (count) {
+            case EXACT -> findAll(pageable);
+            case NONE -> taskRepository.findAllViewsSliced(pageable).map(TaskView::toDto);
+            case ESTIMATED -> CountEstimator.toPage(taskRepository.findAllViewsSliced(pageable).map(TaskView::toDto),
+                    countEstimator.estimateTable(TASKS_TABLE, taskRepository::count));
+        };
     }
 
-}
\ No newline at end of file
+    /**
+     * Retrieves tasks created by a specific user with the given count strategy.
+     * The estimated total is a count cached for a short time.
+     *
+     * @param idCreator The ID of the creator of the tasks.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @param count How the total number of tasks is produced.
+     * @return A {@link Page} of {@link TaskDto}, or a {@link Slice} without a total for {@link CountStrategy#NONE}.
+     */
+    @Override
+    public Slice<TaskDto> findAllByCreator(UUID idCreator, Pageable pageable, CountStrategy count) {
+        return switch (count) {
+            case EXACT -> findAllByCreator(idCreator, pageable);
+            case NONE -> taskRepository.findViewSliceByCreatorId(idCreator, pageable).map(TaskView::toDto);
+            case ESTIMATED -> CountEstimator.toPage(taskRepository.findViewSliceByCreatorId(idCreator, pageable).map(TaskView::toDto),
+                    countEstimator.cachedCount("tasks.creator:" + idCreator, () -> taskRepository.countByCreatorId(idCreator)));
+        };
+    }
+
+    /**
+     * Retrieves tasks assigned to a specific executor with the given count strategy.
+     * The estimated total is a count cached for a short time.
+     *
+     * @param idExecutor The ID of the executor of the tasks.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @param count How the total number of tasks is produced.
+     * @return A {@link Page} of {@link TaskDto}, or a {@link Slice} without a total for {@link CountStrategy#NONE}.
+     */
+    @Override
+    public Slice<TaskDto> findAllByExecutor(UUID idExecutor, Pageable pageable, CountStrategy count) {
+        return switch (count) {
+            case EXACT -> findAllByExecutor(idExecutor, pageable);
+            case NONE -> taskRepository.findViewSliceByExecutorId(idExecutor, pageable).map(TaskView::toDto);
+            case ESTIMATED -> CountEstimator.toPage(taskRepository.findViewSliceByExecutorId(idExecutor, pageable).map(TaskView::toDto),
+                    countEstimator.cachedCount("tasks.executor:" + idExecutor, () -> taskRepository.countByExecutorId(idExecutor)));
+        };
+    }
+
+    /**
+     * Retrieves all tasks page by page with a cursor (keyset pagination).
+     *
+     * @param cursor The cursor returned with the previous page, or an empty string for the first page.
+     * @param size The number of tasks per page.
+     * @return A {@link CursorPageDto} of {@link TaskDto} ordered by id.
+     * @throws BadRequestException If the cursor or the page size is not valid.
+     */
+    @Override
+    public CursorPageDto<TaskDto> findAll(String cursor, int size) {
+        return findPage(cursor, size, taskRepository::findViewsAfter);
+    }
+
+    /**
+     * Retrieves tasks created by a specific user page by page with a cursor (keyset pagination).
+     *
+     * @param idCreator The ID of the creator of the tasks.
+     * @param cursor The cursor returned with the previous page, or an empty string for the first page.
+     * @param size The number of tasks per page.
+     * @return A {@link CursorPageDto} of {@link TaskDto} ordered by id.
+     * @throws BadRequestException If the cursor or the page size is not valid.
+     */
+    @Override
+    public CursorPageDto<TaskDto> findAllByCreator(UUID idCreator, String cursor, int size) {
+        return findPage(cursor, size,
+                (lastId, limit) -> taskRepository.findViewsByCreatorIdAfter(idCreator, lastId, limit));
+    }
+
+    /**
+     * Retrieves tasks assigned to a specific executor page by page with a cursor (keyset pagination).
+     *
+     * @param idExecutor The ID of the executor of the tasks.
+     * @param cursor The cursor returned with the previous page, or an empty string for the first page.
+     * @param size The number of tasks per page.
+     * @return A {@link CursorPageDto} of {@link TaskDto} ordered by id.
+     * @throws BadRequestException If the cursor or the page size is not valid.
+     */
+    @Override
+    public CursorPageDto<TaskDto> findAllByExecutor(UUID idExecutor, String cursor, int size) {
+        return findPage(cursor, size,
+                (lastId, limit) -> taskRepository.findViewsByExecutorIdAfter(idExecutor, lastId, limit));
+    }
+
+    /**
+     * Writes all tasks as newline-delimited JSON, see {@link TaskExporter}.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If writing to the stream fails.
+     */
+    @Override
+    public void exportTasks(OutputStream out) throws IOException {
+        long exported = taskExporter.export(out);
+        log.debug("Exported {} tasks", exported);
+    }
+
+    /**
+     * Reads one row more than the page size to know whether a next page exists,
+     * so no count query is needed.
+     */
+    private CursorPageDto<TaskDto> findPage(String cursor, int size, BiFunction<UUID, Limit, List<TaskView>> query) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        final List<TaskView> tasks = query.apply(Cursors.decode(cursor), Limit.of(size + 1));
+        final boolean hasNext = tasks.size() > size;
+        final List<TaskView> page = hasNext ? tasks.subList(0, size) : tasks;
+        final String nextCursor = hasNext ? Cursors.encode(page.get(page.size() - 1).id()) : null;
+        return new CursorPageDto<>(page.stream().map(TaskView::toDto).toList(), nextCursor);
+    }
+}
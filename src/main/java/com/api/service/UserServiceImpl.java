@@ -19,13 +19,13 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
 
     /**
-     * Retrieves a user by their email.
+     * Retrieves a user by their email, ignoring case and surrounding whitespace like the login does.
      *
      * @param login The email of the user to retrieve.
      * @return An {@link Optional} containing the {@link User} if found, or an empty {@link Optional} if not found.
      */
     @Override
     public Optional<User> getUserByEmail(String login) {
-        return userRepository.findByEmail(login);
+        return userRepository.findByEmailIgnoreCase(login.trim());
     }
 }
@@ -7,6 +7,9 @@ import com.api.exception.AuthException;
 import com.api.exception.BadRequestException;
 import com.api.exception.OkException;
 import com.api.entity.User;
+import com.api.security.AccessTokenRevocationList;
+import com.api.security.IssuedToken;
+import com.api.security.JwtAuthentication;
 import com.api.security.RefreshTokenStore;
 import com.api.service.interfaces.UserService;
 import com.api.service.validation.UserValidator;
@@ -34,6 +37,7 @@ public class AuthServiceImpl {
     @Getter
     private final RefreshTokenStore tokenStore;
     private final UserValidator userValidator;
+    private final AccessTokenRevocationList revocationList;
     private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
 
     public JwtResponseDto login(@Valid @NotNull JwtRequestDto dto) {
@@ -48,19 +52,15 @@ public class AuthServiceImpl {
         }
 
         final String accessToken = tokenService.generateAccessToken(user);
-        final String refreshToken = tokenService.generateRefreshToken(user);
-        tokenStore.putIfAbsent(user.getEmail(), refreshToken);
+        final IssuedToken refreshToken = tokenService.issueRefreshToken(user);
+        tokenStore.putIfAbsent(user.getEmail(), refreshToken.value(), refreshToken.expiresAtMillis());
 
         log.info("{} is logged in", user.getEmail());
-        return new JwtResponseDto(accessToken, refreshToken);
+        return new JwtResponseDto(accessToken, refreshToken.value());
     }
 
     public JwtResponseDto getNewAccessToken(@NotNull String refreshToken) {
-        if (!tokenService.validateRefreshToken(refreshToken)) {
-            throw new AuthException("Non valid refresh token");
-        }
-
-        final Claims claims = tokenService.getRefreshClaims(refreshToken);
+        final Claims claims = tokenService.verifyRefreshToken(refreshToken);
         final String email = claims.getSubject();
 
         if (!tokenStore.validateToken(email, refreshToken)) {
@@ -77,11 +77,7 @@ public class AuthServiceImpl {
     }
 
     public JwtResponseDto refresh(@NotNull String refreshToken) {
-        if (!tokenService.validateRefreshToken(refreshToken)) {
-            throw new AuthException("Non valid refresh token");
-        }
-
-        final Claims claims = tokenService.getRefreshClaims(refreshToken);
+        final Claims claims = tokenService.verifyRefreshToken(refreshToken);
         final String email = claims.getSubject();
 
         if (!tokenStore.validateToken(email, refreshToken)) {
@@ -91,24 +87,30 @@ public class AuthServiceImpl {
         final User user = userValidator.getUserByEmailOrThrowForbidden(email);
 
         final String newAccessToken = tokenService.generateAccessToken(user);
-        final String newRefreshToken = tokenService.generateRefreshToken(user);
-        tokenStore.updateToken(user.getEmail(), refreshToken, newRefreshToken);
+        final IssuedToken newRefreshToken = tokenService.issueRefreshToken(user);
+        tokenStore.updateToken(user.getEmail(), refreshToken, newRefreshToken.value(), newRefreshToken.expiresAtMillis());
 
         log.info("{} got new access and refresh token", user.getEmail());
-        return new JwtResponseDto(newAccessToken, newRefreshToken);
+        return new JwtResponseDto(newAccessToken, newRefreshToken.value());
     }
 
-    public void logout(@NotNull String refreshToken) {
-        if (!tokenService.validateRefreshToken(refreshToken)) {
-            throw new AuthException("Non valid refresh token");
-        }
-
-        final Claims claims = tokenService.getRefreshClaims(refreshToken);
+    /**
+     * Logs the user out: the refresh token is invalidated and the access token of the request is revoked
+     * until it expires, if it belongs to the same user.
+     *
+     * @param refreshToken the refresh token of the user.
+     * @param authentication the authentication built from the access token of the request.
+     */
+    public void logout(@NotNull String refreshToken, JwtAuthentication authentication) {
+        final Claims claims = tokenService.verifyRefreshToken(refreshToken);
         final String email = claims.getSubject();
 
         final User user = userValidator.getUserByEmailOrThrowForbidden(email);
 
         tokenStore.invalidate(user.getEmail());
+        if (authentication != null && user.getEmail().equals(authentication.getEmail())) {
+            revocationList.revoke(authentication.getTokenId(), authentication.getExpiresAtMillis());
+        }
         log.info("{} is logged out", user.getEmail());
     }
 
@@ -1,6 +1,7 @@
 package com.api.service.auth;
 
 import com.api.entity.User;
+import com.api.security.IssuedToken;
 import com.api.security.JwtProvider;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +21,12 @@ public class TokenService {
         return jwtProvider.generateRefreshToken(user);
     }
 
-    public boolean validateRefreshToken(String token) {
-        return jwtProvider.validateRefreshToken(token);
+    public IssuedToken issueRefreshToken(User user) {
+        return jwtProvider.issueRefreshToken(user);
     }
 
-    public Claims getRefreshClaims(String token) {
-        return jwtProvider.getRefreshClaims(token);
+    public Claims verifyRefreshToken(String token) {
+        return jwtProvider.verifyAndExtractRefresh(token).getClaimsOrThrow();
     }
 
 }
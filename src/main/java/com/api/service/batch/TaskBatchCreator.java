@@ -0,0 +1,126 @@
+package com.api.service.batch;
+
+import com.api.dto.TaskBatchItemResultDto;
+import com.api.dto.TaskBatchResultDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.dto.UserDto;
+import com.api.exception.BadRequestException;
+import com.api.repository.TaskInsertRepository.NewTask;
+import com.api.repository.TaskRepository;
+import com.api.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Class TaskBatchCreator
+ *
+ * Component that creates many tasks in one request. Every item is checked before anything is written:
+ * first against the rules of {@link TaskNoIdDto}, then its creator and executor against the users table,
+ * all of them with one query. The valid items get their ids here and are inserted with batched statements
+ * in one transaction; the other items are reported with their reasons and skipped.
+ */
+@Component
+public class TaskBatchCreator {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final int maxSize;
+
+    @Autowired
+    public TaskBatchCreator(TaskRepository taskRepository,
+                            UserRepository userRepository,
+                            Validator validator,
+                            @Value("${task.batch.max-size:5000}") int maxSize) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Validates the given tasks and inserts the valid ones.
+     *
+     * @param tasks The tasks to create, in request order.
+     * @return The created and rejected counts and the result of every item, in request order.
+     * @throws BadRequestException If the batch is empty or larger than the configured maximum.
+     */
+    @Transactional
+    public TaskBatchResultDto create(List<TaskNoIdDto> tasks) {
+        if (tasks.isEmpty() || tasks.size() > maxSize) {
+            throw new BadRequestException("A batch must have 1-" + maxSize + " tasks");
+        }
+        final List<List<String>> errors = new ArrayList<>(tasks.size());
+        final Set<UUID> userIds = new HashSet<>();
+        for (TaskNoIdDto task : tasks) {
+            final List<String> itemErrors = validate(task);
+            if (itemErrors.isEmpty()) {
+                userIds.add(task.getCreator().getId());
+                userIds.add(task.getExecutor().getId());
+            }
+            errors.add(itemErrors);
+        }
+        final Set<UUID> existingUsers = userIds.isEmpty() ? Set.of() : userRepository.findExistingIds(userIds);
+
+        final List<NewTask> newTasks = new ArrayList<>(tasks.size());
+        final List<TaskBatchItemResultDto> items = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            final TaskNoIdDto task = tasks.get(i);
+            final List<String> itemErrors = errors.get(i);
+            if (itemErrors.isEmpty()) {
+                if (!existingUsers.contains(task.getCreator().getId())) {
+                    itemErrors.add("There is no such creator");
+                }
+                if (!existingUsers.contains(task.getExecutor().getId())) {
+                    itemErrors.add("There is no such executor");
+                }
+            }
+            if (!itemErrors.isEmpty()) {
+                items.add(TaskBatchItemResultDto.rejected(i, itemErrors));
+                continue;
+            }
+            final NewTask newTask = new NewTask(UUID.randomUUID(), task.getTitle(), task.getDescription(),
+                    task.getStatus(), task.getPriority(), task.getCreator().getId(), task.getExecutor().getId());
+            newTasks.add(newTask);
+            items.add(TaskBatchItemResultDto.created(i, newTask.id()));
+        }
+        if (!newTasks.isEmpty()) {
+            taskRepository.insertAll(newTasks);
+        }
+        return new TaskBatchResultDto(newTasks.size(), tasks.size() - newTasks.size(), items);
+    }
+
+    /**
+     * Checks an item against the rules of {@link TaskNoIdDto}; the creator and the executor need an id.
+     */
+    private List<String> validate(TaskNoIdDto task) {
+        final List<String> errors = new ArrayList<>();
+        if (task == null) {
+            errors.add("Task must not be null");
+            return errors;
+        }
+        validator.validate(task).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .forEach(errors::add);
+        requireId(task.getCreator(), "Creator must have an id", errors);
+        requireId(task.getExecutor(), "Executor must have an id", errors);
+        return errors;
+    }
+
+    private static void requireId(UserDto user, String message, List<String> errors) {
+        if (user != null && user.getId() == null) {
+            errors.add(message);
+        }
+    }
+}
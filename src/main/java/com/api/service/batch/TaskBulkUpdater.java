@@ -0,0 +1,113 @@
+package com.api.service.batch;
+
+import com.api.dto.TaskBulkResultDto;
+import com.api.dto.TaskBulkUpdateDto;
+import com.api.dto.TaskFilterDto;
+import com.api.exception.BadRequestException;
+import com.api.exception.ForbiddenException;
+import com.api.repository.TaskRepository;
+import com.api.repository.TaskUpdateRepository;
+import com.api.repository.TaskUpdateRepository.BulkChange;
+import com.api.util.TaskPermissionChecker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Class TaskBulkUpdater
+ *
+ * Component that changes the status or the executor of many tasks at once, selected by their ids or by a filter.
+ * The whole change is one statement of {@link TaskUpdateRepository}, which also applies the rule of a single
+ * status change: an admin may change every task, any other user only the status of the tasks they execute.
+ * For such a user the selection is limited to their own tasks, so a filter never locks the tasks of others.
+ */
+@Component
+public class TaskBulkUpdater {
+
+    private final TaskRepository taskRepository;
+    private final TaskPermissionChecker taskPermissionChecker;
+    private final int maxSize;
+
+    @Autowired
+    public TaskBulkUpdater(TaskRepository taskRepository,
+                           TaskPermissionChecker taskPermissionChecker,
+                           @Value("${task.batch.max-size:5000}") int maxSize) {
+        this.taskRepository = taskRepository;
+        this.taskPermissionChecker = taskPermissionChecker;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Applies the change to the selected tasks.
+     *
+     * @param change The selection and the new values.
+     * @param email The email of the caller.
+     * @param admin Whether the caller has the ADMIN role.
+     * @return The counts of changed, unchanged, denied and missing tasks.
+     * @throws BadRequestException If the selection or the new values are not valid, or the new executor does not exist.
+     * @throws ForbiddenException If a user without the ADMIN role reassigns tasks.
+     */
+    public TaskBulkResultDto update(TaskBulkUpdateDto change, String email, boolean admin) {
+        if ((change.ids() == null) == (change.filter() == null)) {
+            throw new BadRequestException("Either the task ids or a filter must be given");
+        }
+        if (change.status() == null && change.executorId() == null) {
+            throw new BadRequestException("A new status or executor must be given");
+        }
+        if (change.executorId() != null && !admin) {
+            throw new ForbiddenException("Only an admin can reassign tasks");
+        }
+        Set<UUID> ids = null;
+        if (change.ids() != null) {
+            if (change.ids().isEmpty() || change.ids().size() > maxSize) {
+                throw new BadRequestException("A batch must have 1-" + maxSize + " task ids");
+            }
+            ids = new LinkedHashSet<>(change.ids());
+        }
+        final Map<String, Object> filter = filter(change.filter());
+        final Map<String, Object> columns = new LinkedHashMap<>();
+        if (change.status() != null) {
+            columns.put(TaskUpdateRepository.STATUS, change.status());
+        }
+        if (change.executorId() != null) {
+            columns.put(TaskUpdateRepository.EXECUTOR_ID, change.executorId());
+        }
+
+        final BulkChange result;
+        try {
+            result = taskRepository.updateAll(ids, filter, columns, admin ? null : email);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("There is no such user");
+        }
+        result.reassigned().forEach(taskPermissionChecker::invalidate);
+        return new TaskBulkResultDto(result.changed(), result.unchanged(), result.denied(),
+                ids == null ? 0 : ids.size() - result.matched());
+    }
+
+    private static Map<String, Object> filter(TaskFilterDto filter) {
+        final Map<String, Object> columns = new LinkedHashMap<>();
+        if (filter == null) {
+            return columns;
+        }
+        if (filter.creatorId() != null) {
+            columns.put(TaskUpdateRepository.CREATOR_ID, filter.creatorId());
+        }
+        if (filter.executorId() != null) {
+            columns.put(TaskUpdateRepository.EXECUTOR_ID, filter.executorId());
+        }
+        if (filter.status() != null) {
+            columns.put(TaskUpdateRepository.STATUS, filter.status());
+        }
+        if (columns.isEmpty()) {
+            throw new BadRequestException("The filter must have at least one value");
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,177 @@
+package com.api.service.cache;
+
+import com.api.entity.User;
+import com.api.repository.UserRepository;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class UserByEmailCache
+ *
+ * Size-bounded cache of users keyed by the normalized (trimmed, lower-case) email, used by the auth endpoints.
+ * The normalized email is only the cache key: the user is loaded with a case-insensitive query, so users
+ * stored with a mixed-case email are found as well.
+ * Entries live for a fixed time and are invalidated by {@link UserCacheInvalidationListener} whenever a user
+ * is written through JPA. Concurrent misses for the same email wait for a single query:
+ * the first caller puts a pending future into the map and loads the user, the others join that future.
+ * Unknown emails are not cached.
+ */
+@Component
+public class UserByEmailCache {
+
+    private record Entry(CompletableFuture<Optional<User>> user, long loadedAtMillis) {
+    }
+
+    private final ConcurrentMap<String, Entry> users = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    @Autowired
+    public UserByEmailCache(UserRepository userRepository,
+                            @Value("${user.cache.max-size:10000}") int maxSize,
+                            @Value("${user.cache.ttl-ms:300000}") long ttlMillis,
+                            Clock clock) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the user with the given email, from the cache or from the database.
+     *
+     * @param email the user email; it is looked up ignoring case and surrounding whitespace.
+     * @return the user or an empty Optional if there is no such user.
+     */
+    public Optional<User> get(@NonNull String email) {
+        final String key = normalize(email);
+        final long now = clock.millis();
+        final Entry cached = users.get(key);
+        if (cached != null && !isExpired(cached, now)) {
+            hits.increment();
+            return join(cached);
+        }
+
+        final Entry loading = new Entry(new CompletableFuture<>(), now);
+        final Entry current = users.compute(key,
+                (k, existing) -> existing != null && !isExpired(existing, now) ? existing : loading);
+        if (current != loading) {
+            hits.increment();
+            return join(current);
+        }
+        misses.increment();
+        evictIfFull(now);
+        try {
+            final Optional<User> user = userRepository.findByEmailIgnoreCase(email.trim());
+            loading.user().complete(user);
+            if (user.isEmpty()) {
+                users.remove(key, loading);
+            }
+            return user;
+        } catch (RuntimeException e) {
+            users.remove(key, loading);
+            loading.user().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the user from the cache, both under its current email and under any previous email.
+     *
+     * @param user the user that was written.
+     */
+    public void invalidate(@NonNull User user) {
+        if (user.getEmail() != null) {
+            users.remove(normalize(user.getEmail()));
+        }
+        if (user.getId() != null) {
+            users.values().removeIf(entry -> {
+                final Optional<User> cached = entry.user().getNow(null);
+                return cached != null && cached.isPresent() && user.getId().equals(cached.get().getId());
+            });
+        }
+    }
+
+    public static String normalize(@NonNull String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A pending load is never expired, so the callers that arrive meanwhile wait for it.
+     */
+    private boolean isExpired(Entry entry, long now) {
+        return entry.user().isDone() && entry.loadedAtMillis() + ttlMillis <= now;
+    }
+
+    private static Optional<User> join(Entry entry) {
+        try {
+            return entry.user().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes expired entries first and then, if needed, an arbitrary loaded entry.
+     */
+    private void evictIfFull(long now) {
+        if (users.size() <= maxSize) {
+            return;
+        }
+        final Iterator<Map.Entry<String, Entry>> iterator = users.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (isExpired(iterator.next().getValue(), now)) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        final Iterator<Entry> any = users.values().iterator();
+        while (users.size() > maxSize && any.hasNext()) {
+            if (any.next().user().isDone()) {
+                any.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public void clear() {
+        users.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.service.cache;
+
+import com.api.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Class UserCacheInvalidationListener
+ *
+ * JPA entity listener of {@link User} that drops the written user from the {@link UserByEmailCache}.
+ * The user is removed right away and once more after the transaction completes, so a concurrent request
+ * cannot keep the state read before the commit. Bulk JPQL updates bypass entity listeners
+ * and have to invalidate the cache themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserByEmailCache> userByEmailCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(User user) {
+        final UserByEmailCache cache = userByEmailCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        cache.invalidate(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(user);
+                }
+            });
+        }
+    }
+}
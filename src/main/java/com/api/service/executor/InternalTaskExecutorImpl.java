@@ -1,32 +1,36 @@
 package com.api.service.executor;
 
 import com.api.entity.Task;
-import com.api.exception.BadRequestException;
+import com.api.entity.User;
+import com.api.repository.UserRepository;
 import com.api.service.executor.interfaces.InternalTaskExecutor;
-import com.api.service.validation.TaskValidator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class InternalTaskExecutorImpl implements InternalTaskExecutor {
 
-    private final TaskValidator taskValidator;
-    private final ModelMapper modelMapper;
+    private final UserRepository userRepository;
 
+    /**
+     * Copies the columns of the new task onto the loaded one. The comments are left untouched,
+     * so the collection is neither initialized nor checked for orphans. The users are set as references:
+     * an unchanged user is the instance that is already loaded, a new one is only read when the task
+     * is mapped to the DTO, one select per changed user.
+     */
     @Override
     public Task updateTask(Task taskExisting, Task newTask) {
-        newTask.setComments(taskExisting.getComments());
-        return newTask;
+        taskExisting.setTitle(newTask.getTitle());
+        taskExisting.setDescription(newTask.getDescription());
+        taskExisting.setStatus(newTask.getStatus());
+        taskExisting.setPriority(newTask.getPriority());
+        taskExisting.setCreator(reference(newTask.getCreator()));
+        taskExisting.setExecutor(reference(newTask.getExecutor()));
+        return taskExisting;
     }
 
-    @Override
-    public Task updateTaskStatus(Task task, String newStatus) {
-        if (taskValidator.isStatusEqualTo(task,newStatus)) {
-            throw new BadRequestException("The new status must be different from the current status");
-        }
-        task.setStatus(newStatus);
-        return task;
+    private User reference(User user) {
+        return userRepository.getReferenceById(user.getId());
     }
 }
@@ -0,0 +1,87 @@
+package com.api.service.export;
+
+import com.api.dto.TaskDto;
+import com.api.dto.view.TaskView;
+import com.api.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Class TaskExporter
+ *
+ * Component that writes all tasks as newline-delimited JSON, one {@link TaskDto} per line.
+ * The tasks are read as {@link TaskView} records from a server-side cursor inside a read-only transaction,
+ * so they never enter the persistence context, and every record is written and dropped before the next is read.
+ * The output is flushed after every fetched block of rows, so the memory used does not depend on the number of tasks.
+ */
+@Component
+public class TaskExporter {
+
+    /**
+     * The number of lines written between two flushes of the output.
+     */
+    static final int FLUSH_ROWS = TaskRepository.EXPORT_FETCH_SIZE;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnly;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public TaskExporter(TaskRepository taskRepository,
+                        PlatformTransactionManager transactionManager,
+                        ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(TaskDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes all tasks ordered by id to the given stream, which is flushed but not closed.
+     *
+     * @param out The stream to write to.
+     * @return The number of exported tasks.
+     * @throws IOException If writing fails, e.g. because the client went away; the export stops there.
+     */
+    public long export(OutputStream out) throws IOException {
+        try {
+            final Long exported = readOnly.execute(status -> write(out));
+            return exported == null ? 0 : exported;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long write(OutputStream out) {
+        try (Stream<TaskView> tasks = taskRepository.streamAllViews();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.setRootValueSeparator(null);
+            long rows = 0;
+            final Iterator<TaskView> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next().toDto());
+                generator.writeRaw('\n');
+                if (++rows % FLUSH_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
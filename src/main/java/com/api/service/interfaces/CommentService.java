@@ -2,8 +2,10 @@ package com.api.service.interfaces;
 
 import com.api.dto.CommentNoIdDto;
 import com.api.dto.CommentDto;
+import com.api.service.paging.CountStrategy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.UUID;
 
 /**
@@ -31,4 +33,14 @@ public interface CommentService {
      * @return A page of comments related to the task.
      */
     Page<CommentDto> findAllByTaskId(UUID idTask, Pageable pageable);
+
+    /**
+     * Retrieves the comments of a specified task, with pagination support and the given count strategy.
+     *
+     * @param idTask The ID of the task for which to retrieve the comments.
+     * @param pageable The pagination information, including page number and page size.
+     * @param count How the total number of comments is produced.
+     * @return A page of comments, or a slice without a total if the count strategy is NONE.
+     */
+    Slice<CommentDto> findAllByTaskId(UUID idTask, Pageable pageable, CountStrategy count);
 }
@@ -1,10 +1,21 @@
 package com.api.service.interfaces;
 
+import com.api.dto.CursorPageDto;
 import com.api.dto.IdDto;
+import com.api.dto.TaskBatchResultDto;
+import com.api.dto.TaskBulkResultDto;
+import com.api.dto.TaskBulkUpdateDto;
 import com.api.dto.TaskDto;
 import com.api.dto.TaskNoIdDto;
+import com.api.security.JwtAuthentication;
+import com.api.service.paging.CountStrategy;
+import com.api.service.patch.TaskMergePatch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -23,6 +34,23 @@ public interface TaskService {
      */
     TaskDto addTask(TaskNoIdDto taskNoIdDto);
 
+    /**
+     * Adds many tasks at once. The valid items are created in one transaction, the others are rejected.
+     *
+     * @param tasks The DTOs containing the task details excluding the IDs.
+     * @return The result of every item, including the IDs of the created tasks.
+     */
+    TaskBatchResultDto addTasks(List<TaskNoIdDto> tasks);
+
+    /**
+     * Changes the status or the executor of many tasks at once, selected by their ids or by a filter.
+     *
+     * @param change The selection and the new values.
+     * @param authentication The authentication of the caller; only an admin may reassign tasks or change tasks it does not execute.
+     * @return The counts of changed, unchanged, denied and missing tasks.
+     */
+    TaskBulkResultDto updateTasks(TaskBulkUpdateDto change, JwtAuthentication authentication);
+
     /**
      * Updates an existing task.
      *
@@ -40,6 +68,15 @@ public interface TaskService {
      */
     TaskDto updateTaskStatus(UUID taskId, String newStatus);
 
+    /**
+     * Applies a JSON Merge Patch to a specific task, writing only the patched fields.
+     *
+     * @param taskId The ID of the task to patch.
+     * @param patch The validated patch.
+     * @return A DTO representing the task after the patch.
+     */
+    TaskDto patchTask(UUID taskId, TaskMergePatch patch);
+
     /**
      * Deletes a task by its ID.
      *
@@ -73,4 +110,24 @@ public interface TaskService {
      */
     Page<TaskDto> findAllByExecutor(UUID idExecutor, Pageable pageable);
 
+    Slice<TaskDto> findAll(Pageable pageable, CountStrategy count);
+
+    Slice<TaskDto> findAllByCreator(UUID idCreator, Pageable pageable, CountStrategy count);
+
+    Slice<TaskDto> findAllByExecutor(UUID idExecutor, Pageable pageable, CountStrategy count);
+
+    CursorPageDto<TaskDto> findAll(String cursor, int size);
+
+    CursorPageDto<TaskDto> findAllByCreator(UUID idCreator, String cursor, int size);
+
+    CursorPageDto<TaskDto> findAllByExecutor(UUID idExecutor, String cursor, int size);
+
+
+    /**
+     * Writes all tasks as newline-delimited JSON, one task per line, without holding them in memory.
+     *
+     * @param out The stream to write to; it is flushed but not closed.
+     * @throws IOException If writing to the stream fails.
+     */
+    void exportTasks(OutputStream out) throws IOException;
 }
@@ -0,0 +1,126 @@
+package com.api.service.paging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Class CountEstimator
+ *
+ * Produces the totals of the {@link CountStrategy#ESTIMATED} listings. An unfiltered listing takes the row
+ * estimate the planner keeps in pg_class, which costs one catalog lookup. A filtered listing, and a table
+ * that was never analyzed, runs the exact count once and reuses it for a fixed time from a size-bounded cache.
+ */
+@Slf4j
+@Component
+public class CountEstimator {
+
+    private static final String RELTUPLES = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private record CachedCount(long count, long countedAtMillis) {
+    }
+
+    private final ConcurrentMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    @Autowired
+    public CountEstimator(JdbcTemplate jdbcTemplate,
+                          @Value("${paging.count.cache.max-size:10000}") int maxSize,
+                          @Value("${paging.count.cache.ttl-ms:60000}") long ttlMillis,
+                          Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Estimates the number of rows of a whole table from the planner statistics.
+     *
+     * @param table the schema-qualified table name.
+     * @param exactCount the exact count, used while the table has no statistics yet.
+     * @return the estimated number of rows.
+     */
+    public long estimateTable(String table, LongSupplier exactCount) {
+        Long estimate = null;
+        try {
+            estimate = jdbcTemplate.query(RELTUPLES, rs -> rs.next() ? rs.getLong(1) : null, table);
+        } catch (DataAccessException e) {
+            log.warn("Cannot read the row estimate of {}: {}", table, e.getMessage());
+        }
+        if (estimate == null || estimate <= 0) {
+            return cachedCount(table, exactCount);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the count cached under the key, or runs the exact count if it is missing or older than the TTL.
+     *
+     * @param key the listing and its filter, e.g. "tasks.creator:" + id.
+     * @param exactCount the exact count.
+     * @return the cached or fresh count.
+     */
+    public long cachedCount(String key, LongSupplier exactCount) {
+        final long now = clock.millis();
+        final CachedCount cached = counts.get(key);
+        if (cached != null && cached.countedAtMillis() + ttlMillis > now) {
+            return cached.count();
+        }
+        final long count = exactCount.getAsLong();
+        evictIfFull(now);
+        counts.put(key, new CachedCount(count, now));
+        return count;
+    }
+
+    /**
+     * Turns a slice into a page with the estimated total. The total is raised to at least the elements
+     * seen so far, plus one if the slice has a next page, so the page links stay consistent with the data.
+     *
+     * @param slice the page content read without a count.
+     * @param estimatedTotal the estimated number of elements.
+     * @return the page.
+     */
+    public static <T> Page<T> toPage(Slice<T> slice, long estimatedTotal) {
+        final long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        final long total = Math.max(estimatedTotal, seen + (slice.hasNext() ? 1 : 0));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    private void evictIfFull(long now) {
+        if (counts.size() < maxSize) {
+            return;
+        }
+        counts.values().removeIf(cached -> cached.countedAtMillis() + ttlMillis <= now);
+        final Iterator<String> any = counts.keySet().iterator();
+        while (counts.size() >= maxSize && any.hasNext()) {
+            any.next();
+            any.remove();
+        }
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+}
@@ -0,0 +1,55 @@
+package com.api.service.paging;
+
+import com.api.exception.BadRequestException;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+/**
+ * Class CountStrategy
+ *
+ * How the total number of elements of a paged listing is produced:
+ * <ul>
+ *     <li>EXACT - a COUNT query next to the page query, the default;</li>
+ *     <li>NONE - no count at all, the response is a slice that only tells whether a next page exists;</li>
+ *     <li>ESTIMATED - planner statistics for unfiltered listings and a short-lived cached count for filtered ones.</li>
+ * </ul>
+ * The strategy used is returned in the {@value #HEADER} response header.
+ */
+public enum CountStrategy {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static final String HEADER = "X-Count-Strategy";
+    private static final String INVALID = "Count must be one of: exact, none, estimated";
+
+    /**
+     * Parses the "count" request parameter.
+     *
+     * @param value exact, none or estimated, case-insensitive.
+     * @return the count strategy.
+     * @throws BadRequestException if the value is not a known strategy.
+     */
+    public static CountStrategy of(String value) {
+        if (value == null) {
+            throw new BadRequestException(INVALID);
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID);
+        }
+    }
+
+    public String headerValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Builds an OK response that names this strategy in the {@value #HEADER} header.
+     */
+    public <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok().header(HEADER, headerValue()).body(body);
+    }
+}
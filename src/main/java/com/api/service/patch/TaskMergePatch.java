@@ -0,0 +1,116 @@
+package com.api.service.patch;
+
+import com.api.exception.BadRequestException;
+import com.api.repository.TaskUpdateRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Class TaskMergePatch
+ *
+ * A JSON Merge Patch (RFC 7386) of a task, turned into the columns to write. A member that is missing
+ * leaves the field as it is, null clears it and any other value replaces it. The creator and the executor
+ * are given by their ids only. The values are checked with the same rules as {@link com.api.dto.TaskDto};
+ * only the description can be cleared.
+ */
+public final class TaskMergePatch {
+
+    /**
+     * The media type of JSON Merge Patch documents.
+     */
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final Pattern STATUS = Pattern.compile("^(pending|in progress|completed)$");
+    private static final Pattern PRIORITY = Pattern.compile("^(high|mid|low)$");
+
+    private final Map<String, Object> columns;
+
+    private TaskMergePatch(Map<String, Object> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Reads and validates a patch document.
+     *
+     * @param document the request body.
+     * @return the patch.
+     * @throws BadRequestException If the document is not an object, has an unknown member or a value is not valid.
+     */
+    public static TaskMergePatch parse(JsonNode document) {
+        if (document == null || !document.isObject()) {
+            throw new BadRequestException("Patch must be a JSON object");
+        }
+        final Map<String, Object> columns = new LinkedHashMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> members = document.fields();
+        while (members.hasNext()) {
+            final Map.Entry<String, JsonNode> member = members.next();
+            final JsonNode value = member.getValue();
+            switch (member.getKey()) {
+                case "title" -> columns.put(TaskUpdateRepository.TITLE,
+                        text(value, "Task must have a title", 1, 250, "Acceptable task size is 1-250"));
+                case "description" -> columns.put(TaskUpdateRepository.DESCRIPTION, value.isNull()
+                        ? null
+                        : text(value, null, 0, 256, "Acceptable task description is 0-256"));
+                case "status" -> columns.put(TaskUpdateRepository.STATUS, matching(value, STATUS,
+                        "Statuses that are acceptable: pending|in progress|completed"));
+                case "priority" -> columns.put(TaskUpdateRepository.PRIORITY, matching(value, PRIORITY,
+                        "Priorities that are acceptable: high|mid|low"));
+                case "creator" -> columns.put(TaskUpdateRepository.CREATOR_ID, id(value, "Creator must be"));
+                case "executor" -> columns.put(TaskUpdateRepository.EXECUTOR_ID, id(value, "Executor must be"));
+                default -> throw new BadRequestException("Unknown task field: " + member.getKey());
+            }
+        }
+        return new TaskMergePatch(columns);
+    }
+
+    /**
+     * @return the new values by column of the tasks table, in the order of the document.
+     */
+    public Map<String, Object> columns() {
+        return columns;
+    }
+
+    /**
+     * @return true if the patch assigns the task to an executor.
+     */
+    public boolean changesExecutor() {
+        return columns.containsKey(TaskUpdateRepository.EXECUTOR_ID);
+    }
+
+    private static String text(JsonNode value, String nullMessage, int min, int max, String sizeMessage) {
+        if (value.isNull()) {
+            throw new BadRequestException(nullMessage);
+        }
+        if (!value.isTextual()) {
+            throw new BadRequestException(sizeMessage);
+        }
+        final String text = value.textValue();
+        if (text.length() < min || text.length() > max) {
+            throw new BadRequestException(sizeMessage);
+        }
+        return text;
+    }
+
+    private static String matching(JsonNode value, Pattern pattern, String message) {
+        if (!value.isTextual() || !pattern.matcher(value.textValue()).matches()) {
+            throw new BadRequestException(message);
+        }
+        return value.textValue();
+    }
+
+    private static UUID id(JsonNode value, String nullMessage) {
+        if (value.isNull()) {
+            throw new BadRequestException(nullMessage);
+        }
+        try {
+            return UUID.fromString(value.asText());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Non valid user id");
+        }
+    }
+}
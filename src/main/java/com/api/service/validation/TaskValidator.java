@@ -20,8 +20,4 @@ public class TaskValidator {
         return taskRepository.findById(id).orElseThrow(
                 () -> new BadRequestException("There is no such task"));
     }
-
-    public boolean isStatusEqualTo(Task task, String newStatus){
-        return task.getStatus().equals(newStatus);
-    }
 }
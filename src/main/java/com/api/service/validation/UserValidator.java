@@ -4,8 +4,11 @@ import com.api.entity.User;
 import com.api.exception.BadRequestException;
 import com.api.exception.ForbiddenException;
 import com.api.repository.UserRepository;
+import com.api.security.PasswordVerifier;
+import com.api.service.cache.UserByEmailCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -16,6 +19,8 @@ import java.util.UUID;
 public class UserValidator {
 
     private final UserRepository userRepository;
+    private final UserByEmailCache userByEmailCache;
+    private final PasswordVerifier passwordVerifier;
 
     public User getUserByIdOrThrowBadRequest(UUID id){
         return userRepository.findById(id).orElseThrow(() ->
@@ -23,15 +28,41 @@ public class UserValidator {
     }
 
     public User getUserByEmailOrThrowBadRequest(String email){
-        return userRepository.findByEmail(email).
+        return userByEmailCache.get(email).
                 orElseThrow(() -> new BadRequestException("User not found"));
     }
     public User getUserByEmailOrThrowForbidden(String email){
-        return userRepository.findByEmail(email).
+        return userByEmailCache.get(email).
                 orElseThrow(() -> new ForbiddenException("User not found"));
     }
 
+    /**
+     * Checks the given password against the stored hash on the password verification pool.
+     * If the stored hash is outdated, it is replaced with the new one; a failure to save it
+     * does not fail the login, the hash is then upgraded on a later login.
+     * The given user may be the instance shared by {@link UserByEmailCache}, so a copy with the new hash
+     * is saved and the cache entry is dropped by the entity listener once the update is written.
+     *
+     * @param user the user who logs in.
+     * @param givenPassword the password given by the user.
+     * @return true if the password is correct.
+     */
     public boolean doesUserPasswordEqualTo(User user, String givenPassword){
-        return user.getPassword().equals(givenPassword);
+        final PasswordVerifier.Result result = passwordVerifier.verify(givenPassword, user.getPassword());
+        if (result.matches() && result.upgradedHash() != null) {
+            try {
+                userRepository.save(User.builder()
+                        .id(user.getId())
+                        .fullName(user.getFullName())
+                        .email(user.getEmail())
+                        .password(result.upgradedHash())
+                        .role(user.getRole())
+                        .build());
+                log.info("Password hash of {} was upgraded", user.getEmail());
+            } catch (DataAccessException e) {
+                log.warn("Cannot upgrade password hash of {}: {}", user.getEmail(), e.getMessage());
+            }
+        }
+        return result.matches();
     }
 }
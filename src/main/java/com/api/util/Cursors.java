@@ -0,0 +1,57 @@
+package com.api.util;
+
+import com.api.exception.BadRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Class Cursors
+ *
+ * Encodes the last seen id of a keyset listing into an opaque, URL-safe cursor and back.
+ * An empty cursor starts the listing from its first row.
+ */
+public final class Cursors {
+
+    /**
+     * The id below every generated id; a listing starts after it.
+     */
+    public static final UUID START = new UUID(0, 0);
+
+    private static final int ID_LENGTH = 16;
+
+    private Cursors() {
+    }
+
+    public static String encode(UUID lastId) {
+        final ByteBuffer buffer = ByteBuffer.allocate(ID_LENGTH);
+        buffer.putLong(lastId.getMostSignificantBits());
+        buffer.putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes the cursor given by the client.
+     *
+     * @param cursor the cursor returned with the previous page, or an empty string for the first page.
+     * @return the last id of the previous page.
+     * @throws BadRequestException if the cursor was not issued by this API.
+     */
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        final byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Non valid cursor");
+        }
+        if (bytes.length != ID_LENGTH) {
+            throw new BadRequestException("Non valid cursor");
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -1,35 +1,148 @@
 package com.api.util;
 
-import com.api.exception.ForbiddenException;
 import com.api.repository.TaskRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Class TaskPermissionChecker
  *
  * Component that checks the permissions for a specific task.
  * Used to validate if a user has the necessary permissions to perform an action on a task.
+ * The executor email of each checked task is kept in a size-bounded cache, filled on the first check
+ * and invalidated by the task service whenever a task is updated or deleted. Unknown tasks are not cached.
+ * Every invalidation bumps a generation counter; an executor loaded while the generation changed may have
+ * been read before the invalidated change and is not kept.
+ * Only this instance sees its invalidations. Another instance of the application that shares the database
+ * keeps its cached executor until the TTL passes, so the TTL bounds how long a reassigned executor is still granted.
  */
 @Component
-@RequiredArgsConstructor
 public class TaskPermissionChecker {
 
+    private record Entry(String executorEmail, long loadedAtMillis) {
+    }
+
+    private final ConcurrentMap<UUID, Entry> executorEmails = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
     private final TaskRepository taskRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    @Autowired
+    public TaskPermissionChecker(TaskRepository taskRepository,
+                                 @Value("${task.permission.cache.max-size:10000}") int maxSize,
+                                 @Value("${task.permission.cache.ttl-ms:5000}") long ttlMillis,
+                                 Clock clock) {
+        this.taskRepository = taskRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
 
     /**
      * Checks if the given user (identified by email) is the executor of the specified task.
-     * If the user is not the executor, or if the task does not exist, an exception is thrown.
+     * A denied check only returns false; the access is then refused by Spring Security.
      *
      * @param taskId The unique identifier of the task.
      * @param email The email of the user attempting to access the task.
-     * @return true if the user is the executor of the task; false otherwise.
-     * @throws ForbiddenException If the user is not the executor or an admin.
+     * @return true if the user is the executor of the task; false otherwise or if the task does not exist.
      */
     public boolean isTaskExecutor(UUID taskId, String email) {
-        if(taskRepository.existsByIdAndExecutorEmail(taskId, email)) return true;
-        else throw new ForbiddenException("Only executor and admin have access");
+        if (taskId == null || email == null) {
+            return false;
+        }
+        final long now = clock.millis();
+        final Entry cached = executorEmails.get(taskId);
+        if (cached != null && cached.loadedAtMillis() + ttlMillis > now) {
+            hits.increment();
+            return cached.executorEmail().equals(email);
+        }
+        misses.increment();
+        final long loadedAt = generation.get();
+        final Optional<String> executorEmail = taskRepository.findExecutorEmailById(taskId);
+        if (executorEmail.isEmpty()) {
+            if (cached != null) {
+                executorEmails.remove(taskId, cached);
+            }
+            return false;
+        }
+        final Entry loaded = new Entry(executorEmail.get(), now);
+        if (cached == null || !executorEmails.replace(taskId, cached, loaded)) {
+            evictIfFull();
+            executorEmails.putIfAbsent(taskId, loaded);
+        }
+        if (generation.get() != loadedAt) {
+            executorEmails.remove(taskId, loaded);
+        }
+        return loaded.executorEmail().equals(email);
+    }
+
+    /**
+     * Drops the cached executor of the task. Inside a transaction the task is dropped once more
+     * after it completes. A check that read the executor before the commit and stores it after the drop
+     * sees the new generation and removes its entry again.
+     *
+     * @param taskId The unique identifier of the updated or deleted task.
+     */
+    public void invalidate(UUID taskId) {
+        if (taskId == null) {
+            return;
+        }
+        drop(taskId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop(taskId);
+                }
+            });
+        }
+    }
+
+    private void drop(UUID taskId) {
+        generation.incrementAndGet();
+        executorEmails.remove(taskId);
+    }
+
+    /**
+     * Removes arbitrary entries until there is room for a new one.
+     */
+    private void evictIfFull() {
+        final Iterator<UUID> iterator = executorEmails.keySet().iterator();
+        while (executorEmails.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return executorEmails.size();
+    }
+
+    public void clear() {
+        executorEmails.clear();
     }
 }
@@ -0,0 +1,44 @@
+-- Baseline of the task management schema, as it was created by the former schema.sql.
+-- Databases created before the migrations were introduced are baselined at this version and skip it.
+
+CREATE SCHEMA IF NOT EXISTS task_management_system;
+
+CREATE TABLE IF NOT EXISTS task_management_system.users (
+    id UUID NOT NULL,
+    full_name VARCHAR NOT NULL,
+    email VARCHAR NOT NULL,
+    "password" VARCHAR NOT NULL,
+    "role" VARCHAR NOT NULL,
+    CONSTRAINT email_password_unique UNIQUE (email, "password"),
+    CONSTRAINT user_pk PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS task_management_system.tasks (
+    id UUID NOT NULL,
+    title VARCHAR NOT NULL,
+    description VARCHAR NULL,
+    status VARCHAR NOT NULL,
+    priority VARCHAR NOT NULL,
+    id_creator UUID NOT NULL,
+    id_executor UUID NOT NULL,
+    CONSTRAINT task_pk PRIMARY KEY (id),
+    CONSTRAINT task_creator_fk FOREIGN KEY (id_creator) REFERENCES task_management_system.users(id),
+    CONSTRAINT task_executor_fk FOREIGN KEY (id_executor) REFERENCES task_management_system.users(id)
+);
+
+CREATE TABLE IF NOT EXISTS task_management_system.task_comment (
+    id UUID NOT NULL,
+    description VARCHAR NOT NULL,
+    id_author UUID NOT NULL,
+    id_task UUID NOT NULL,
+    CONSTRAINT comment_pk PRIMARY KEY (id),
+    CONSTRAINT comment_task_fk FOREIGN KEY (id_task) REFERENCES task_management_system.tasks(id)
+);
+
+CREATE TABLE IF NOT EXISTS task_management_system.refresh_sessions (
+    email VARCHAR NOT NULL,
+    token_high BIGINT NOT NULL,
+    token_low BIGINT NOT NULL,
+    expires_at BIGINT NOT NULL,
+    CONSTRAINT refresh_sessions_pk PRIMARY KEY (email)
+);
@@ -0,0 +1,4 @@
+-- Version of each refresh session. A write that reaches the table after a newer write of the same user
+-- is ignored, so the table keeps the last change of every user. A removed session stays as a row with
+-- expires_at = 0 until the periodic cleanup deletes it, so an older save cannot bring it back meanwhile.
+ALTER TABLE task_management_system.refresh_sessions ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
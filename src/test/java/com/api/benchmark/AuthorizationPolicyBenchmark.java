@@ -0,0 +1,115 @@
+package com.api.benchmark;
+
+import com.api.config.enums.Role;
+import com.api.dto.StatusDto;
+import com.api.repository.TaskRepository;
+import com.api.security.AccessPolicies;
+import com.api.security.JwtAuthentication;
+import com.api.util.TaskPermissionChecker;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Class AuthorizationPolicyBenchmark
+ *
+ * Compares the authorization of the task status update as it was, a @PreAuthorize SpEL expression
+ * evaluated per call against the controller method invocation, with the compiled {@link AccessPolicies} rule
+ * on the request path. Both resolve the executor through the same warm {@link TaskPermissionChecker} cache,
+ * so only the cost of the rule evaluation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationPolicyBenchmark {
+
+    @Param({"USER", "ADMIN"})
+    public Role role;
+
+    private PreAuthorizeAuthorizationManager spelManager;
+    private SimpleMethodInvocation invocation;
+    private AccessPolicies accessPolicies;
+    private RequestAuthorizationContext context;
+    private Supplier<Authentication> authentication;
+
+    /**
+     * The controller method as it was annotated before the rules moved to {@link AccessPolicies}.
+     */
+    static class AnnotatedTaskController {
+        @PreAuthorize("isAuthenticated() && " +
+                "(hasRole('ADMIN') || @taskPermissionChecker.isTaskExecutor(#taskId, authentication.principal))")
+        public Object updateTaskStatus(StatusDto status, UUID taskId) {
+            return null;
+        }
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        UUID taskId = UUID.randomUUID();
+        TaskRepository taskRepository = Mockito.mock(TaskRepository.class);
+        Mockito.when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of("benchmark.user@gmail.com"));
+        TaskPermissionChecker taskPermissionChecker = new TaskPermissionChecker(taskRepository, 1024, 60_000, Clock.systemUTC());
+
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton("taskPermissionChecker", taskPermissionChecker);
+        applicationContext.refresh();
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(applicationContext);
+        spelManager = new PreAuthorizeAuthorizationManager();
+        spelManager.setExpressionHandler(expressionHandler);
+        Method method = AnnotatedTaskController.class.getMethod("updateTaskStatus", StatusDto.class, UUID.class);
+        invocation = new SimpleMethodInvocation(new AnnotatedTaskController(), method, null, taskId);
+
+        accessPolicies = new AccessPolicies(taskPermissionChecker);
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/tasks/" + taskId + "/status");
+        context = new RequestAuthorizationContext(request, Map.of(AccessPolicies.TASK_ID, taskId.toString()));
+
+        JwtAuthentication jwtAuthentication = new JwtAuthentication();
+        jwtAuthentication.setEmail("benchmark.user@gmail.com");
+        jwtAuthentication.setRole(role);
+        jwtAuthentication.setAuthenticated(true);
+        authentication = () -> jwtAuthentication;
+
+        if (!spel().isGranted() || !compiled().isGranted()) {
+            throw new IllegalStateException("Both rules must grant the executor and the admin");
+        }
+    }
+
+    @Benchmark
+    public AuthorizationDecision spel() {
+        return spelManager.check(authentication, invocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision compiled() {
+        return accessPolicies.adminOrTaskExecutor().check(authentication, context);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthorizationPolicyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
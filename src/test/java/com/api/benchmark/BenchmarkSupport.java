@@ -0,0 +1,81 @@
+package com.api.benchmark;
+
+import com.api.ApiApplication;
+import com.api.config.enums.Role;
+import com.api.entity.User;
+import com.api.security.JwtProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * Class BenchmarkSupport
+ *
+ * Builds the beans used by the JMH benchmarks without starting the Spring context.
+ * The JWT secrets are taken from the test resources. The benchmarks that need the database
+ * start the application against the local PostgreSQL configured in application.properties.
+ */
+final class BenchmarkSupport {
+
+    static final String SCHEMA = "task_management_system";
+
+    private BenchmarkSupport() {
+    }
+
+    static JwtProvider jwtProvider() throws IOException {
+        JwtProvider jwtProvider = new JwtProvider(Clock.systemUTC());
+        ReflectionTestUtils.setField(jwtProvider, "accessPath", secretPath("jwt/access.txt"));
+        ReflectionTestUtils.setField(jwtProvider, "refreshPath", secretPath("jwt/refresh.txt"));
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    static String secretPath(String resource) throws IOException {
+        return new ClassPathResource(resource).getFile().getPath();
+    }
+
+    static User user() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Name Surname")
+                .email("benchmark.user@gmail.com")
+                .password("password123")
+                .role(Role.USER)
+                .build();
+    }
+
+    static SpringApplicationBuilder application(String... properties) throws IOException {
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .logStartupInfo(false)
+                .properties(
+                        "server.port=0",
+                        "jwt.access.path=" + secretPath("jwt/access.txt"),
+                        "jwt.refresh.path=" + secretPath("jwt/refresh.txt"),
+                        "logging.level.root=WARN")
+                .properties(properties);
+    }
+
+    /**
+     * Fills the tasks table up to the given number of rows, spread over 1000 benchmark users.
+     */
+    static void populateTasks(JdbcTemplate jdbcTemplate, int tasks) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".tasks", Integer.class);
+        if (existing == null || existing >= tasks) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".users (id, full_name, email, \"password\", \"role\") "
+                + "SELECT gen_random_uuid(), 'User ' || g, 'user' || g || '@startup.bench', 'password', 'USER' "
+                + "FROM generate_series(1, 1000) g ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("WITH bench_users AS ("
+                + "SELECT id, row_number() OVER (ORDER BY id) AS rn FROM " + SCHEMA + ".users WHERE email LIKE '%@startup.bench') "
+                + "INSERT INTO " + SCHEMA + ".tasks (id, title, description, status, priority, id_creator, id_executor) "
+                + "SELECT gen_random_uuid(), 'Task ' || g, 'Description', 'pending', 'mid', u.id, u.id "
+                + "FROM generate_series(1, ?) g JOIN bench_users u ON u.rn = g % 1000 + 1", tasks - existing);
+        jdbcTemplate.execute("ANALYZE " + SCHEMA + ".tasks");
+    }
+}
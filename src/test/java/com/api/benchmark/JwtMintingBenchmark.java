@@ -0,0 +1,102 @@
+package com.api.benchmark;
+
+import com.api.config.enums.JwtClaimProfile;
+import com.api.entity.User;
+import com.api.security.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class JwtMintingBenchmark
+ *
+ * Measures the token minting throughput of a login burst: every login mints one access and one refresh token.
+ * All threads mint at the same time, like the clients that log in again right after a deploy.
+ * The previous jjwt builder path is compared with {@link JwtProvider} for both claim profiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class JwtMintingBenchmark {
+
+    @Param({"FULL", "COMPACT"})
+    private JwtClaimProfile profile;
+
+    private JwtProvider jwtProvider;
+    private SecretKey accessSecretKey;
+    private SecretKey refreshSecretKey;
+    private User user;
+
+    @Setup
+    public void setUp() throws IOException {
+        jwtProvider = BenchmarkSupport.jwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "claimProfile", profile);
+        accessSecretKey = key("jwt/access.txt");
+        refreshSecretKey = key("jwt/refresh.txt");
+        user = BenchmarkSupport.user();
+    }
+
+    private static SecretKey key(String resource) throws IOException {
+        String keyContent = Files.readString(Paths.get(BenchmarkSupport.secretPath(resource)), StandardCharsets.UTF_8);
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(keyContent.trim()));
+    }
+
+    /**
+     * The previous minting path: a Minsk calendar and a full jjwt builder per token.
+     * Independent of the claim profile.
+     */
+    @Benchmark
+    public void jjwtBuilderLogin(Blackhole blackhole) {
+        Date accessExpiration = new Date(Calendar.getInstance(TimeZone.getTimeZone("Europe/Minsk")).getTime().getTime() + 600000);
+        blackhole.consume(Jwts.builder()
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(accessExpiration)
+                .claim("login", user.getEmail())
+                .claim("fullName", user.getFullName())
+                .claim("role", user.getRole())
+                .signWith(accessSecretKey)
+                .compact());
+        Date refreshExpiration = new Date(Calendar.getInstance(TimeZone.getTimeZone("Europe/Minsk")).getTime().getTime() + 86400000);
+        blackhole.consume(Jwts.builder()
+                .setSubject(user.getEmail())
+                .setExpiration(refreshExpiration)
+                .claim("role", user.getRole())
+                .signWith(refreshSecretKey)
+                .compact());
+    }
+
+    @Benchmark
+    public void jwtProviderLogin(Blackhole blackhole) {
+        blackhole.consume(jwtProvider.generateAccessToken(user));
+        blackhole.consume(jwtProvider.generateRefreshToken(user));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtMintingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
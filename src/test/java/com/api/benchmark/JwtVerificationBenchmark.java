@@ -0,0 +1,80 @@
+package com.api.benchmark;
+
+import com.api.security.FastAccessTokenVerifier;
+import com.api.security.HmacJwtKey;
+import com.api.security.JwtProvider;
+import com.api.security.VerifiedAccessToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class JwtVerificationBenchmark
+ *
+ * Compares the per-request access token verification before and after the single-pass API:
+ * two parsers built and two signature checks per request against one prebuilt parser and one check,
+ * and the allocation-light fast verifier for the token shape that {@link JwtProvider} emits.
+ * Run with the GC profiler to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtProvider jwtProvider;
+    private SecretKey accessSecretKey;
+    private FastAccessTokenVerifier fastAccessTokenVerifier;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws IOException {
+        jwtProvider = BenchmarkSupport.jwtProvider();
+        String keyContent = Files.readString(Paths.get(BenchmarkSupport.secretPath("jwt/access.txt")), StandardCharsets.UTF_8);
+        accessSecretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(keyContent.trim()));
+        fastAccessTokenVerifier = new FastAccessTokenVerifier(new HmacJwtKey(accessSecretKey));
+        accessToken = jwtProvider.generateAccessToken(BenchmarkSupport.user());
+    }
+
+    /**
+     * The previous request path: validateAccessToken and then getAccessClaims,
+     * each building its own parser.
+     */
+    @Benchmark
+    public Claims validateThenGetClaims() {
+        Jwts.parserBuilder().setSigningKey(accessSecretKey).build().parseClaimsJws(accessToken);
+        return Jwts.parserBuilder().setSigningKey(accessSecretKey).build().parseClaimsJws(accessToken).getBody();
+    }
+
+    @Benchmark
+    public Claims verifyAndExtract() {
+        return jwtProvider.verifyAndExtractAccess(accessToken).getClaimsOrThrow();
+    }
+
+    @Benchmark
+    public VerifiedAccessToken fastVerifier() {
+        return fastAccessTokenVerifier.verify(accessToken, System.currentTimeMillis());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.api.benchmark;
+
+import com.api.security.FileRefreshTokenBackend;
+import com.api.security.RefreshTokenStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class RefreshTokenReplayBenchmark
+ *
+ * Measures the startup replay of the refresh token log: the log is written once with the given number
+ * of sessions (plus one refresh per ten sessions), then every invocation starts a new store on top of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RefreshTokenReplayBenchmark {
+
+    @Param({"1000000"})
+    private int sessions;
+
+    private Path log;
+    private RefreshTokenStore store;
+    private FileRefreshTokenBackend backend;
+
+    @Setup(Level.Trial)
+    public void writeLog() throws IOException {
+        log = Files.createTempFile("refresh-tokens", ".log");
+        Files.delete(log);
+        final long expiresAt = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+        final FileRefreshTokenBackend writer = backend();
+        final RefreshTokenStore writerStore = store(writer);
+        for (int i = 0; i < sessions; i++) {
+            writerStore.putIfAbsent("user" + i + "@gmail.com", "header.payload.signature" + i, expiresAt);
+            if (i % 10 == 0) {
+                writerStore.updateToken("user" + i + "@gmail.com",
+                        "header.payload.signature" + i, "header.payload.refreshed" + i, expiresAt);
+            }
+        }
+        writerStore.stop();
+        writer.stop();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteLog() throws IOException {
+        Files.deleteIfExists(log);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopStore() {
+        store.stop();
+        backend.stop();
+    }
+
+    @Benchmark
+    public int replay() {
+        backend = backend();
+        store = store(backend);
+        return store.size();
+    }
+
+    private FileRefreshTokenBackend backend() {
+        return new FileRefreshTokenBackend(log.toString(), TimeUnit.HOURS.toMillis(1), Clock.systemUTC());
+    }
+
+    private RefreshTokenStore store(FileRefreshTokenBackend backend) {
+        final RefreshTokenStore store = new RefreshTokenStore(sessions, 60_000, Clock.systemUTC(), backend);
+        store.start();
+        return store;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RefreshTokenReplayBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class StartupSchemaModeBenchmark
+ *
+ * Measures the time to start the application context against the local PostgreSQL with
+ * spring.jpa.hibernate.ddl-auto=update (Hibernate reads and diffs the whole schema) and with validate
+ * (the schema is owned by the Flyway migrations and only checked). Before the measurement the database
+ * is migrated and filled with the given number of tasks, so both modes run on a populated schema.
+ * The database connection comes from application.properties, as for the *IT tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupSchemaModeBenchmark {
+
+    @Param({"update", "validate"})
+    public String ddlAuto;
+
+    @Param({"100000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        try (ConfigurableApplicationContext setup = application("validate").run()) {
+            BenchmarkSupport.populateTasks(setup.getBean(JdbcTemplate.class), tasks);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext start() throws IOException {
+        context = application(ddlAuto).run();
+        return context;
+    }
+
+    private static SpringApplicationBuilder application(String ddlAuto) throws IOException {
+        return BenchmarkSupport.application("spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StartupSchemaModeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.api.benchmark;
+
+import com.api.dto.TaskBatchResultDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.dto.UserDto;
+import com.api.service.interfaces.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class TaskBatchInsertBenchmark
+ *
+ * Compares creating a number of tasks the way the importer did, one addTask call (one transaction,
+ * one save) per task, with one addTask call for all of them, which checks the users with one query and
+ * inserts the rows with batched statements. Runs against the local PostgreSQL; the created tasks are
+ * deleted after every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBatchInsertBenchmark {
+
+    private static final String TITLE = "Batch benchmark task";
+
+    @Param({"1000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+    private List<TaskNoIdDto> batch;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = BenchmarkSupport.application().run();
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO " + BenchmarkSupport.SCHEMA + ".users (id, full_name, email, \"password\", \"role\") "
+                + "VALUES (gen_random_uuid(), 'Batch User', 'batch@startup.bench', 'password', 'ADMIN') ON CONFLICT DO NOTHING");
+        UUID userId = jdbcTemplate.queryForObject("SELECT id FROM " + BenchmarkSupport.SCHEMA + ".users "
+                + "WHERE email = 'batch@startup.bench'", UUID.class);
+        UserDto user = UserDto.builder().id(userId).build();
+        batch = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            batch.add(new TaskNoIdDto(TITLE, "Task " + i + " description", "pending", "mid", user, user));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTasks() {
+        jdbcTemplate.update("DELETE FROM " + BenchmarkSupport.SCHEMA + ".tasks WHERE title = ?", TITLE);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void oneByOne(Blackhole blackhole) {
+        for (TaskNoIdDto task : batch) {
+            blackhole.consume(taskService.addTask(task));
+        }
+    }
+
+    @Benchmark
+    public TaskBatchResultDto batched() {
+        return taskService.addTasks(batch);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskBatchInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
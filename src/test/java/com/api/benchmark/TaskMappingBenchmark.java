@@ -0,0 +1,93 @@
+package com.api.benchmark;
+
+import com.api.dto.TaskDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.entity.Task;
+import com.api.entity.User;
+import com.api.mapper.TaskMapper;
+import com.api.mapper.TaskMapperImpl;
+import com.api.mapper.UserMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class TaskMappingBenchmark
+ *
+ * Compares the conversions of the task service done by the default {@link ModelMapper}, which matches
+ * the properties and reads them reflectively, with the generated {@link TaskMapper}, which copies the fields
+ * with plain calls: entity to DTO (every response) and DTO to entity (create and update).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
+    private Task task;
+    private TaskDto taskDto;
+    private TaskNoIdDto taskNoIdDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        taskMapper = new TaskMapperImpl(new UserMapperImpl());
+        User user = BenchmarkSupport.user();
+        task = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Title 0")
+                .description("Task 0 description")
+                .status("pending")
+                .priority("mid")
+                .creator(user)
+                .executor(user)
+                .build();
+        taskDto = taskMapper.toDto(task);
+        taskNoIdDto = taskMapper.toNoIdDto(taskDto);
+    }
+
+    @Benchmark
+    public TaskDto toDtoModelMapper() {
+        return modelMapper.map(task, TaskDto.class);
+    }
+
+    @Benchmark
+    public TaskDto toDtoGenerated() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public Task toEntityModelMapper() {
+        return modelMapper.map(taskDto, Task.class);
+    }
+
+    @Benchmark
+    public Task toEntityGenerated() {
+        return taskMapper.toEntity(taskDto);
+    }
+
+    @Benchmark
+    public Task newEntityModelMapper() {
+        return modelMapper.map(taskNoIdDto, Task.class);
+    }
+
+    @Benchmark
+    public Task newEntityGenerated() {
+        return taskMapper.toEntity(taskNoIdDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskMappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.api.benchmark;
+
+import com.api.dto.TaskDto;
+import com.api.dto.view.TaskView;
+import com.api.entity.Task;
+import com.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class TaskProjectionBenchmark
+ *
+ * Compares reading one page of tasks as it was done before, hydrating managed Task entities with their users
+ * and mapping them with ModelMapper, with selecting {@link TaskView} records and converting them with toDto().
+ * Both run in a read-only transaction against the local PostgreSQL and read one page without counting,
+ * so the count query does not hide the difference. The entity side fetches the users in the same select,
+ * as the entity listings did before they were replaced by the views. Run it with -prof gc to see the allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskProjectionBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"10000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private EntityManager entityManager;
+    private ModelMapper modelMapper;
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = BenchmarkSupport.application().run();
+        BenchmarkSupport.populateTasks(context.getBean(JdbcTemplate.class), tasks);
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        modelMapper = context.getBean(ModelMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        pageable = PageRequest.of(1, pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDto> entities() {
+        return readOnly.execute(status -> entityManager.createQuery(
+                        "select t from Task t join fetch t.creator join fetch t.executor", Task.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(task -> modelMapper.map(task, TaskDto.class))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskDto> views() {
+        return readOnly.execute(status -> taskRepository.findAllViewsSliced(pageable)
+                .map(TaskView::toDto)
+                .getContent());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskProjectionBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.api.config;
+
+import com.api.security.LegacyPlaintextPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderConfigTest {
+
+    @Test
+    void calibrationStaysWithinBCryptLimits() {
+        assertEquals(4, PasswordEncoderConfig.calibrate(0));
+        int strength = PasswordEncoderConfig.calibrate(20);
+        assertTrue(strength >= 4 && strength <= 31);
+    }
+
+    @Test
+    void configuredStrengthIsUsedForNewHashes() {
+        PasswordEncoder encoder = new PasswordEncoderConfig().passwordEncoder(5, 0);
+
+        String hash = encoder.encode("123_password");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("123_password", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void plainTextPasswordsAreMatchedAndMarkedForUpgrade() {
+        PasswordEncoder encoder = new PasswordEncoderConfig().passwordEncoder(4, 0);
+
+        assertTrue(encoder.matches("123_password", "123_password"));
+        assertFalse(encoder.matches("123_password", "other_password"));
+        assertTrue(encoder.upgradeEncoding("123_password"));
+    }
+
+    @Test
+    void legacyEncoderEncodesWithCurrentHash() {
+        PasswordEncoder encoder = new PasswordEncoderConfig().passwordEncoder(4, 0);
+        PasswordEncoder legacy = new LegacyPlaintextPasswordEncoder(encoder);
+
+        String hash = legacy.encode("123_password");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$04$"));
+        assertTrue(encoder.matches("123_password", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+}
@@ -0,0 +1,80 @@
+package com.api.config;
+
+import com.api.config.enums.Role;
+import com.api.controller.AuthController;
+import com.api.dto.jwt.JwtResponseDto;
+import com.api.security.AccessPolicies;
+import com.api.security.AccessTokenRevocationList;
+import com.api.security.JwtAuthenticationEntryPoint;
+import com.api.security.JwtProvider;
+import com.api.security.VerifiedAccessToken;
+import com.api.security.VerifiedTokenCache;
+import com.api.service.auth.AuthServiceImpl;
+import com.api.util.TaskPermissionChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the login request through the whole security filter chain,
+ * with the {@link com.api.security.JwtFilter} and the registered {@link AccessPolicies}.
+ */
+@WebMvcTest(controllers = AuthController.class)
+@Import({SecurityConfig.class, AccessPolicies.class, JwtAuthenticationEntryPoint.class})
+class SecurityConfigTest {
+
+    private static final String ACCESS_TOKEN = "header.payload.signature";
+    private static final String LOGIN = "{\"email\": \"user@gmail.com\", \"password\": \"123_password\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private AuthServiceImpl authServiceImpl;
+    @MockBean
+    private JwtProvider jwtProvider;
+    @MockBean
+    private VerifiedTokenCache verifiedTokenCache;
+    @MockBean
+    private AccessTokenRevocationList revocationList;
+    @MockBean
+    private TaskPermissionChecker taskPermissionChecker;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtProvider.verifyAccessToken(ACCESS_TOKEN)).thenReturn(new VerifiedAccessToken(
+                "user@gmail.com", Role.USER, "token-id", System.currentTimeMillis() + 60_000));
+        when(authServiceImpl.isUserLoggedIn("user@gmail.com")).thenReturn(true);
+        when(authServiceImpl.login(any())).thenReturn(JwtResponseDto.builder().accessToken("access").build());
+    }
+
+    @Test
+    void anonymousLogin_isAllowed() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN))
+                .andExpect(status().isOk());
+
+        verify(authServiceImpl).login(any());
+    }
+
+    @Test
+    void authenticatedLogin_isForbidden() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .header("Authorization", "Bearer " + ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN))
+                .andExpect(status().isForbidden());
+
+        verify(authServiceImpl, never()).login(any());
+    }
+}
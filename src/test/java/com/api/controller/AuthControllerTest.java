@@ -8,6 +8,7 @@ import com.api.dto.jwt.RefreshJwtRequestDto;
 import com.api.entity.User;
 import com.api.repository.UserRepository;
 import com.api.service.auth.AuthServiceImpl;
+import com.api.service.cache.UserByEmailCache;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +42,8 @@ class AuthControllerTest {
     private TestRestTemplate restTemplate;
     @Autowired
     private AuthServiceImpl authService;
+    @Autowired
+    private UserByEmailCache userByEmailCache;
     private User userDB;
     private UUID userId;
 
@@ -73,7 +76,7 @@ class AuthControllerTest {
                 .password("123_password")
                 .role(Role.ADMIN)
                 .build();
-        when(userRepository.findByEmail(userDB.getEmail())).thenReturn(Optional.of(userDB));
+        when(userRepository.findByEmailIgnoreCase(userDB.getEmail())).thenReturn(Optional.of(userDB));
     }
 
     @AfterEach
@@ -81,6 +84,7 @@ class AuthControllerTest {
         reset(userRepository);
         SecurityContextHolder.clearContext();
         authService.getTokenStore().clear();
+        userByEmailCache.clear();
     }
 
     @Nested
@@ -105,6 +109,23 @@ class AuthControllerTest {
             assertEquals(3, jwtResponseDto.getBody().getAccessToken().split("\\.").length);
         }
 
+        @Test
+        void authenticatedUser_shouldReturn403() {
+            ResponseEntity<JwtResponseDto> responseDtoResponseEntity = login("user@gmail.com", "123_password");
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(responseDtoResponseEntity.getBody().getAccessToken());
+
+            ResponseEntity<JwtResponseDto> jwtResponseDto = restTemplate.postForEntity(
+                    baseUrl() + "/auth/login",
+                    new HttpEntity<>(JwtRequestDto.builder()
+                            .email("user@gmail.com")
+                            .password("123_password")
+                            .build(), headers),
+                    JwtResponseDto.class);
+
+            assertEquals(HttpStatus.FORBIDDEN, jwtResponseDto.getStatusCode());
+        }
+
         @Test
         void nonexistedUser_shouldThrowBadRequest() {
             JwtRequestDto jwtRequestDto = JwtRequestDto.builder()
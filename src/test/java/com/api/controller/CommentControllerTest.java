@@ -7,6 +7,7 @@ import com.api.repository.TaskRepository;
 import com.api.repository.UserRepository;
 import com.api.service.auth.AuthServiceImpl;
 import com.api.service.interfaces.CommentService;
+import com.api.service.paging.CountStrategy;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -24,11 +25,13 @@ import org.springframework.http.*;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -149,7 +152,7 @@ class CommentControllerTest {
         @Test
         void executor_success(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(executorDto.getEmail(), executorDto.getPassword());
-            when(taskRepository.existsByIdAndExecutorEmail(taskId, executorDto.getEmail())).thenReturn(true);
+            when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of(executorDto.getEmail()));
             when(commentService.addComment(any(UUID.class), any(CommentNoIdDto.class))).thenReturn(commentDto);
 
             ResponseEntity<CommentDto> commentResponseEntity = restTemplate.postForEntity(
@@ -216,7 +219,7 @@ class CommentControllerTest {
         @Test
         void admin_success(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(adminDto.getEmail(), adminDto.getPassword());
-            when(commentService.findAllByTaskId(any(UUID.class), any(Pageable.class)))
+            when(commentService.findAllByTaskId(any(UUID.class), any(Pageable.class), eq(CountStrategy.EXACT)))
                     .thenReturn(new PageImpl<>(List.of(commentDto)));
 
             ResponseEntity<CommentDto> commentResponseEntity = restTemplate.exchange(
@@ -234,8 +237,8 @@ class CommentControllerTest {
         @Test
         void executor_success(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(executorDto.getEmail(), executorDto.getPassword());
-            when(taskRepository.existsByIdAndExecutorEmail(taskId, executorDto.getEmail())).thenReturn(true);
-            when(commentService.findAllByTaskId(any(UUID.class), any(Pageable.class)))
+            when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of(executorDto.getEmail()));
+            when(commentService.findAllByTaskId(any(UUID.class), any(Pageable.class), eq(CountStrategy.EXACT)))
                     .thenReturn(new PageImpl<>(List.of(commentDto)));
 
             ResponseEntity<CommentDto> commentResponseEntity = restTemplate.exchange(
@@ -253,7 +256,7 @@ class CommentControllerTest {
         @Test
         void nonExecutorOrNonAdmin_shouldReturn403(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(nonExecutorDto.getEmail(), nonExecutorDto.getPassword());
-            when(commentService.findAllByTaskId(any(UUID.class), any(Pageable.class)))
+            when(commentService.findAllByTaskId(any(UUID.class), any(Pageable.class), eq(CountStrategy.EXACT)))
                     .thenReturn(new PageImpl<>(List.of(commentDto)));
 
             ResponseEntity<CommentDto> commentResponseEntity = restTemplate.exchange(
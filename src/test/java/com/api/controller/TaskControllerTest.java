@@ -6,6 +6,8 @@ import com.api.dto.jwt.JwtResponseDto;
 import com.api.repository.UserRepository;
 import com.api.service.auth.AuthServiceImpl;
 import com.api.service.interfaces.TaskService;
+import com.api.service.paging.CountStrategy;
+import com.api.service.patch.TaskMergePatch;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,8 @@ import org.springframework.http.*;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -33,7 +37,11 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @Slf4j
@@ -233,6 +241,44 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    class addTasks{
+        @Test
+        void admin_success(){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(adminDto.getEmail(), adminDto.getPassword());
+            when(taskService.addTasks(anyList())).thenReturn(new TaskBatchResultDto(1, 1, List.of(
+                    TaskBatchItemResultDto.created(0, taskId),
+                    TaskBatchItemResultDto.rejected(1, List.of("Acceptable task size is 1-250")))));
+
+            ResponseEntity<TaskBatchResultDto> batchResponseEntity = restTemplate.postForEntity(
+                    baseUrl() + "/tasks/batch",
+                    getHttpEntity(
+                            List.of(modelMapper.map(taskDto, TaskNoIdDto.class), TaskNoIdDto.builder().title("").build()),
+                            jwtResponseEntity.getBody().getAccessToken()),
+                    TaskBatchResultDto.class);
+
+            assertEquals(HttpStatus.OK, batchResponseEntity.getStatusCode());
+            assertNotNull(batchResponseEntity.getBody());
+            assertEquals(taskId, batchResponseEntity.getBody().items().get(0).id());
+            assertEquals(1, batchResponseEntity.getBody().rejected());
+            verify(taskService).addTasks(argThat(tasks -> tasks.size() == 2));
+        }
+        @Test
+        void nonAdmin_shouldReturn403(){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
+
+            ResponseEntity<TaskBatchResultDto> batchResponseEntity = restTemplate.postForEntity(
+                    baseUrl() + "/tasks/batch",
+                    getHttpEntity(
+                            List.of(modelMapper.map(taskDto, TaskNoIdDto.class)),
+                            jwtResponseEntity.getBody().getAccessToken()),
+                    TaskBatchResultDto.class);
+
+            assertEquals(HttpStatus.FORBIDDEN, batchResponseEntity.getStatusCode());
+            verify(taskService, never()).addTasks(anyList());
+        }
+    }
+
     @Nested
     class updateTask{
 
@@ -420,6 +466,112 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    class patchTask{
+
+        private static Stream<Arguments> invalidPatches() {
+            return Stream.of(
+                    Arguments.of(new InvalidDtoCase("not an object", "[]")),
+                    Arguments.of(new InvalidDtoCase("title - null", "{\"title\": null}")),
+                    Arguments.of(new InvalidDtoCase("title - empty", "{\"title\": \"\"}")),
+                    Arguments.of(new InvalidDtoCase("status - out of pattern", "{\"status\": \"out of pattern\"}")),
+                    Arguments.of(new InvalidDtoCase("executor - not an id", "{\"executor\": \"not an id\"}")),
+                    Arguments.of(new InvalidDtoCase("unknown field", "{\"comments\": []}"))
+            );
+        }
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("invalidPatches")
+        void invalidPatch_shouldReturn400(InvalidDtoCase invalidPatch){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(adminDto.getEmail(), adminDto.getPassword());
+
+            webTestClient.patch()
+                    .uri("/tasks/{taskId}", taskId)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtResponseEntity.getBody().getAccessToken())
+                    .contentType(MediaType.parseMediaType(TaskMergePatch.MEDIA_TYPE))
+                    .bodyValue(invalidPatch.dto())
+                    .exchange()
+                    .expectStatus().isBadRequest();
+            verify(taskService, never()).patchTask(any(UUID.class), any(TaskMergePatch.class));
+        }
+        @Test
+        void admin_success(){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(adminDto.getEmail(), adminDto.getPassword());
+            taskDto.setPriority("high");
+            when(taskService.patchTask(any(UUID.class), any(TaskMergePatch.class))).thenReturn(taskDto);
+
+            webTestClient.patch()
+                    .uri("/tasks/{taskId}", taskId)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtResponseEntity.getBody().getAccessToken())
+                    .contentType(MediaType.parseMediaType(TaskMergePatch.MEDIA_TYPE))
+                    .bodyValue("{\"priority\": \"high\", \"description\": null, \"executor\": \"" + userId + "\"}")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(TaskDto.class)
+                    .value(response -> {
+                        assertEquals("high", response.getPriority());
+                        assertEquals(taskDto.getId(), response.getId());
+                    });
+            verify(taskService).patchTask(eq(taskId), argThat(patch -> patch.changesExecutor()
+                    && patch.columns().size() == 3
+                    && patch.columns().containsKey("description")));
+        }
+        @Test
+        void nonAdmin_shouldReturn403(){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
+
+            webTestClient.patch()
+                    .uri("/tasks/{taskId}", taskId)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtResponseEntity.getBody().getAccessToken())
+                    .contentType(MediaType.parseMediaType(TaskMergePatch.MEDIA_TYPE))
+                    .bodyValue("{\"priority\": \"high\"}")
+                    .exchange()
+                    .expectStatus().isForbidden();
+        }
+    }
+
+    @Nested
+    class updateTasks{
+        @Test
+        void executor_success(){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
+            when(taskService.updateTasks(any(TaskBulkUpdateDto.class), any())).thenReturn(new TaskBulkResultDto(1, 0, 1, 0));
+
+            webTestClient.patch()
+                    .uri("/tasks/batch")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtResponseEntity.getBody().getAccessToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new TaskBulkUpdateDto(List.of(taskId, UUID.randomUUID()), null, "completed", null))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(TaskBulkResultDto.class)
+                    .value(response -> assertEquals(new TaskBulkResultDto(1, 0, 1, 0), response));
+            verify(taskService).updateTasks(argThat(change -> change.ids().size() == 2),
+                    argThat(authentication -> userDto.getEmail().equals(authentication.getEmail())));
+        }
+        @Test
+        void invalidStatus_shouldReturn400(){
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(adminDto.getEmail(), adminDto.getPassword());
+
+            webTestClient.patch()
+                    .uri("/tasks/batch")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtResponseEntity.getBody().getAccessToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new TaskBulkUpdateDto(List.of(taskId), null, "out of pattern", null))
+                    .exchange()
+                    .expectStatus().isBadRequest();
+            verify(taskService, never()).updateTasks(any(TaskBulkUpdateDto.class), any());
+        }
+        @Test
+        void unauthenticatedUser_shouldReturn403(){
+            webTestClient.patch()
+                    .uri("/tasks/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new TaskBulkUpdateDto(List.of(taskId), null, "completed", null))
+                    .exchange()
+                    .expectStatus().isForbidden();
+        }
+    }
+
     @Nested
     class deleteTask {
         @Test
@@ -453,12 +605,44 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    class exportTasks {
+        @Test
+        void authenticatedUser_success() throws Exception {
+            ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(0);
+                out.write("{\"title\":\"Test task title\"}\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(taskService).exportTasks(any(OutputStream.class));
+
+            ResponseEntity<String> exportResponseEntity = restTemplate.exchange(
+                    baseUrl() + "/tasks/export",
+                    HttpMethod.GET,
+                    getHttpEntity(null, jwtResponseEntity.getBody().getAccessToken()),
+                    String.class);
+
+            assertEquals(HttpStatus.OK, exportResponseEntity.getStatusCode());
+            assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(exportResponseEntity.getHeaders().getContentType()));
+            assertEquals("{\"title\":\"Test task title\"}\n", exportResponseEntity.getBody());
+        }
+        @Test
+        void unauthenticatedUser_shouldReturn403() throws Exception {
+            ResponseEntity<String> exportResponseEntity = restTemplate.getForEntity(
+                    baseUrl() + "/tasks/export",
+                    String.class);
+
+            assertEquals(HttpStatus.FORBIDDEN, exportResponseEntity.getStatusCode());
+            verify(taskService, never()).exportTasks(any(OutputStream.class));
+        }
+    }
+
     @Nested
     class getAllTasks {
         @Test
         void authenticatedUser_success(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
-            when(taskService.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(taskDto)));
+            when(taskService.findAll(any(Pageable.class), eq(CountStrategy.EXACT))).thenReturn(new PageImpl<>(List.of(taskDto)));
 
             ResponseEntity<TaskDto> taskResponseEntity = restTemplate.exchange(
                     baseUrl() + "/tasks/all",
@@ -490,7 +674,7 @@ class TaskControllerTest {
         @Test
         void authenticatedUser_success(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
-            when(taskService.findAllByCreator(any(UUID.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(taskDto)));
+            when(taskService.findAllByCreator(any(UUID.class), any(Pageable.class), eq(CountStrategy.EXACT))).thenReturn(new PageImpl<>(List.of(taskDto)));
 
             ResponseEntity<TaskDto> taskResponseEntity = restTemplate.exchange(
                     baseUrl() + "/tasks/all/creator/{id}",
@@ -524,7 +708,7 @@ class TaskControllerTest {
         @Test
         void authenticatedUser_success(){
             ResponseEntity<JwtResponseDto> jwtResponseEntity = login(userDto.getEmail(), userDto.getPassword());
-            when(taskService.findAllByExecutor(any(UUID.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(taskDto)));
+            when(taskService.findAllByExecutor(any(UUID.class), any(Pageable.class), eq(CountStrategy.EXACT))).thenReturn(new PageImpl<>(List.of(taskDto)));
 
             ResponseEntity<TaskDto> taskResponseEntity = restTemplate.exchange(
                     baseUrl() + "/tasks/all/executor/{id}",
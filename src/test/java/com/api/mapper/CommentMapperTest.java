@@ -0,0 +1,44 @@
+package com.api.mapper;
+
+import com.api.config.enums.Role;
+import com.api.dto.CommentDto;
+import com.api.dto.CommentNoIdDto;
+import com.api.dto.UserDto;
+import com.api.entity.Comment;
+import com.api.entity.Task;
+import com.api.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentMapperTest {
+
+    private final CommentMapper commentMapper = new CommentMapperImpl(new UserMapperImpl());
+
+    @Test
+    void toDto_copiesTextAndAuthor() {
+        User author = new User(UUID.randomUUID(), "Author Name", "author@gmail.com", "password1", Role.USER);
+        Comment comment = new Comment(UUID.randomUUID(), "comment text", author, Task.builder().id(UUID.randomUUID()).build());
+
+        CommentDto commentDto = commentMapper.toDto(comment);
+
+        assertEquals(comment.getId(), commentDto.getId());
+        assertEquals("comment text", commentDto.getText());
+        assertEquals(author.getId(), commentDto.getAuthor().getId());
+        assertEquals(author.getEmail(), commentDto.getAuthor().getEmail());
+    }
+
+    @Test
+    void toEntity_hasNoIdAndNoTask() {
+        UserDto author = new UserDto(UUID.randomUUID(), "Author Name", "author@gmail.com", null, Role.USER);
+
+        Comment comment = commentMapper.toEntity(new CommentNoIdDto("comment text", author));
+
+        assertNull(comment.getId());
+        assertNull(comment.getTask());
+        assertEquals("comment text", comment.getText());
+        assertEquals(author.getId(), comment.getAuthor().getId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.api.mapper;
+
+import com.api.config.enums.Role;
+import com.api.dto.TaskDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.dto.UserDto;
+import com.api.entity.Task;
+import com.api.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskMapperTest {
+
+    private final TaskMapper taskMapper = new TaskMapperImpl(new UserMapperImpl());
+
+    private final User creator = new User(UUID.randomUUID(), "Creator Name", "creator@gmail.com", "password1", Role.ADMIN);
+    private final User executor = new User(UUID.randomUUID(), "Executor Name", "executor@gmail.com", "password2", Role.USER);
+
+    @Test
+    void toDto_copiesAllFieldsAndUsers() {
+        Task task = Task.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .description("desc")
+                .status("pending")
+                .priority("mid")
+                .creator(creator)
+                .executor(executor)
+                .build();
+
+        TaskDto taskDto = taskMapper.toDto(task);
+
+        assertEquals(task.getId(), taskDto.getId());
+        assertEquals("title", taskDto.getTitle());
+        assertEquals("desc", taskDto.getDescription());
+        assertEquals("pending", taskDto.getStatus());
+        assertEquals("mid", taskDto.getPriority());
+        assertEquals(creator.getId(), taskDto.getCreator().getId());
+        assertEquals(creator.getEmail(), taskDto.getCreator().getEmail());
+        assertEquals(Role.USER, taskDto.getExecutor().getRole());
+        assertEquals(executor.getFullName(), taskDto.getExecutor().getFullName());
+    }
+
+    @Test
+    void toEntity_fromTaskDto_keepsIdAndLeavesCommentsEmpty() {
+        UserDto userDto = new UserDto(creator.getId(), creator.getFullName(), creator.getEmail(), null, Role.ADMIN);
+        TaskDto taskDto = new TaskDto(UUID.randomUUID(), "title", "desc", "completed", "high", userDto, userDto);
+
+        Task task = taskMapper.toEntity(taskDto);
+
+        assertEquals(taskDto.getId(), task.getId());
+        assertEquals("completed", task.getStatus());
+        assertEquals(creator.getId(), task.getCreator().getId());
+        assertEquals(creator.getId(), task.getExecutor().getId());
+        assertNull(task.getComments());
+    }
+
+    @Test
+    void toEntity_fromTaskNoIdDto_hasNoId() {
+        UserDto userDto = new UserDto(executor.getId(), executor.getFullName(), executor.getEmail(), null, Role.USER);
+        TaskNoIdDto taskNoIdDto = new TaskNoIdDto("title", "desc", "pending", "low", userDto, userDto);
+
+        Task task = taskMapper.toEntity(taskNoIdDto);
+
+        assertNull(task.getId());
+        assertEquals("low", task.getPriority());
+        assertEquals(executor.getEmail(), task.getCreator().getEmail());
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertNull(taskMapper.toDto(null));
+        assertNull(taskMapper.toEntity((TaskDto) null));
+        assertNull(taskMapper.toEntity((TaskNoIdDto) null));
+    }
+}
@@ -1,6 +1,7 @@
 package com.api.repository;
 
 import com.api.config.enums.Role;
+import com.api.dto.view.CommentView;
 import com.api.entity.Comment;
 import com.api.entity.Task;
 import com.api.entity.User;
@@ -72,9 +73,9 @@ class CommentRepositoryIT {
     void findAllByTaskId() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Comment> commentsByTaskId = commentRepository.findAllByTaskId(task.getId(), pageable);
+        Page<CommentView> commentsByTaskId = commentRepository.findViewsByTaskId(task.getId(), pageable);
         assertEquals(1, commentsByTaskId.getContent().size());
-        assertEquals(comment.getText(),commentsByTaskId.getContent().get(0).getText());
+        assertEquals(comment.getText(),commentsByTaskId.getContent().get(0).text());
 
 
     }
@@ -0,0 +1,199 @@
+package com.api.repository;
+
+import com.api.config.enums.Role;
+import com.api.dto.view.CommentView;
+import com.api.dto.view.TaskView;
+import com.api.entity.Comment;
+import com.api.entity.Task;
+import com.api.entity.User;
+import com.api.util.Cursors;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements behind each listing. Every task and comment has its own creator, executor
+ * or author, so a listing that loads the users one by one would show up as one statement per row.
+ * The users are read after the query, as the mapping to DTOs does.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ListingStatementCountIT {
+
+    private static final int ROWS = 12;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 5);
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID creatorId;
+    private UUID executorId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        final User creator = user("creator");
+        final User executor = user("executor");
+        creatorId = creator.getId();
+        executorId = executor.getId();
+        Task first = null;
+        for (int i = 0; i < ROWS; i++) {
+            final Task task = Task.builder()
+                    .title("Task " + i)
+                    .description("Description " + i)
+                    .status("pending")
+                    .priority("mid")
+                    .creator(i % 2 == 0 ? creator : user("creator" + i))
+                    .executor(i % 2 == 0 ? executor : user("executor" + i))
+                    .build();
+            entityManager.persist(task);
+            if (first == null) {
+                first = task;
+            }
+        }
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(Comment.builder()
+                    .text("Comment " + i)
+                    .author(user("author" + i))
+                    .task(first)
+                    .build());
+        }
+        taskId = first.getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskPageIsOneSelectAndOneCount() {
+        assertViewStatements(2, () -> readViews(taskRepository.findAllViews(FIRST_PAGE).getContent()));
+        assertViewStatements(2, () -> readViews(taskRepository.findViewsByCreatorId(creatorId, FIRST_PAGE).getContent()));
+        assertViewStatements(2, () -> readViews(taskRepository.findViewsByExecutorId(executorId, FIRST_PAGE).getContent()));
+    }
+
+    @Test
+    void taskByIdIsOneSelect() {
+        assertStatements(1, () -> readUsers(List.of(taskRepository.findById(taskId).orElseThrow())));
+    }
+
+    @Test
+    void commentListingsDoNotLoadAuthorsOneByOne() {
+        assertViewStatements(2, () -> commentRepository.findViewsByTaskId(taskId, FIRST_PAGE).getContent()
+                .forEach(comment -> assertNotNull(comment.toDto().getAuthor().getEmail())));
+        assertViewStatements(1, () -> commentRepository.findViewSliceByTaskId(taskId, FIRST_PAGE).getContent()
+                .forEach(comment -> assertNotNull(comment.toDto().getAuthor().getEmail())));
+    }
+
+    @Test
+    void taskViewListingsLoadNoEntities() {
+        final Limit limit = Limit.of(FIRST_PAGE.getPageSize() + 1);
+        assertViewStatements(1, () -> readViews(taskRepository.findAllViewsSliced(FIRST_PAGE).getContent()));
+        assertViewStatements(1, () -> readViews(taskRepository.findViewSliceByCreatorId(creatorId, FIRST_PAGE).getContent()));
+        assertViewStatements(1, () -> readViews(taskRepository.findViewSliceByExecutorId(executorId, FIRST_PAGE).getContent()));
+        assertViewStatements(1, () -> readViews(taskRepository.findViewsAfter(Cursors.START, limit)));
+        assertViewStatements(1, () -> readViews(taskRepository.findViewsByCreatorIdAfter(creatorId, Cursors.START, limit)));
+        assertViewStatements(1, () -> readViews(taskRepository.findViewsByExecutorIdAfter(executorId, Cursors.START, limit)));
+    }
+
+    @Test
+    void taskViewStreamIsOneSelectAndLoadsNoEntities() {
+        assertViewStatements(1, () -> {
+            try (Stream<TaskView> views = taskRepository.streamAllViews()) {
+                final List<TaskView> all = views.toList();
+                assertEquals(ROWS, all.size());
+                readViews(all);
+            }
+        });
+    }
+
+    @Test
+    void viewsMatchTheEntities() {
+        final Task task = taskRepository.findById(taskId).orElseThrow();
+        final TaskView view = taskRepository.findViewsAfter(Cursors.START, Limit.of(ROWS)).stream()
+                .filter(candidate -> candidate.id().equals(taskId))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(task.getTitle(), view.title());
+        assertEquals(task.getStatus(), view.status());
+        assertEquals(task.getCreator().getEmail(), view.creator().email());
+        assertEquals(task.getExecutor().getRole(), view.executor().role());
+        assertNull(view.toDto().getCreator().getPassword());
+
+        final List<CommentView> comments = commentRepository.findViewsByTaskId(taskId, PageRequest.of(0, ROWS)).getContent();
+        assertEquals(ROWS, comments.size());
+    }
+
+    @Test
+    void pagesKeepTheirSizeAndTotal() {
+        assertEquals(FIRST_PAGE.getPageSize(), taskRepository.findAllViews(FIRST_PAGE).getContent().size());
+        assertEquals(ROWS, taskRepository.findAllViews(FIRST_PAGE).getTotalElements());
+        assertEquals(ROWS / 2, taskRepository.findViewsByCreatorId(creatorId, FIRST_PAGE).getTotalElements());
+        assertEquals(ROWS, commentRepository.findViewsByTaskId(taskId, FIRST_PAGE).getTotalElements());
+    }
+
+    private void assertStatements(long expected, Runnable listing) {
+        entityManager.clear();
+        statistics.clear();
+        listing.run();
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+
+    private void assertViewStatements(long expected, Runnable listing) {
+        assertStatements(expected, listing);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private static void readViews(Collection<TaskView> views) {
+        assertFalse(views.isEmpty());
+        views.forEach(view -> {
+            assertNotNull(view.toDto().getCreator().getEmail());
+            assertNotNull(view.toDto().getExecutor().getEmail());
+        });
+    }
+
+    private static void readUsers(Collection<Task> tasks) {
+        assertFalse(tasks.isEmpty());
+        final List<String> emails = new ArrayList<>();
+        for (Task task : tasks) {
+            emails.add(task.getCreator().getEmail());
+            emails.add(task.getExecutor().getEmail());
+        }
+        assertEquals(tasks.size() * 2, emails.size());
+    }
+
+    private User user(String name) {
+        final User user = User.builder()
+                .fullName("Name Surname")
+                .email(name + "@statements.test")
+                .password("dsf789ert")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
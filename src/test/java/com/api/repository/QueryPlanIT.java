@@ -0,0 +1,182 @@
+package com.api.repository;
+
+import com.api.util.Cursors;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads a realistic volume of users, tasks and comments into the local Postgres and checks with EXPLAIN
+ * that the repository queries are served by the indexes of the migrations. The SQL is not written by hand:
+ * each repository method is run and the statements Hibernate sends are captured by {@link CapturedStatements},
+ * then explained as generic plans (PostgreSQL 16 or newer), so a change of a query shows up here.
+ * The unfiltered listings and the export read the whole table and are not checked.
+ * The data is rolled back after each test.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.api.repository.QueryPlanIT$CapturedStatements")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanIT {
+
+    private static final int USERS = 1_000;
+    private static final int TASKS = 50_000;
+    private static final int COMMENTS_PER_TASK = 2;
+    private static final String SCHEMA = "task_management_system";
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final Limit PAGE_LIMIT = Limit.of(21);
+
+    /**
+     * Records every statement Hibernate prepares.
+     */
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+    private UUID taskId;
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".users (id, full_name, email, \"password\", \"role\") "
+                + "SELECT gen_random_uuid(), 'User ' || g, 'user' || g || '@plan.test', 'password', 'USER' "
+                + "FROM generate_series(1, ?) g", USERS);
+        jdbcTemplate.update("WITH plan_users AS ("
+                + "SELECT id, row_number() OVER (ORDER BY id) AS rn FROM " + SCHEMA + ".users WHERE email LIKE '%@plan.test') "
+                + "INSERT INTO " + SCHEMA + ".tasks (id, title, description, status, priority, id_creator, id_executor) "
+                + "SELECT gen_random_uuid(), 'Task ' || g, 'Description', 'pending', 'mid', c.id, e.id "
+                + "FROM generate_series(1, ?) g "
+                + "JOIN plan_users c ON c.rn = g % ? + 1 "
+                + "JOIN plan_users e ON e.rn = (g * 7) % ? + 1", TASKS, USERS, USERS);
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".task_comment (id, description, id_author, id_task) "
+                + "SELECT gen_random_uuid(), 'Comment', t.id_executor, t.id "
+                + "FROM " + SCHEMA + ".tasks t CROSS JOIN generate_series(1, ?) g", COMMENTS_PER_TASK);
+        jdbcTemplate.execute("ANALYZE " + SCHEMA + ".users");
+        jdbcTemplate.execute("ANALYZE " + SCHEMA + ".tasks");
+        jdbcTemplate.execute("ANALYZE " + SCHEMA + ".task_comment");
+
+        userId = jdbcTemplate.queryForObject("SELECT id FROM " + SCHEMA + ".users WHERE email = 'user1@plan.test'", UUID.class);
+        taskId = jdbcTemplate.queryForObject("SELECT id FROM " + SCHEMA + ".tasks WHERE id_creator = ? LIMIT 1", UUID.class, userId);
+    }
+
+    /**
+     * Runs the repository query and returns the plans of the statements it sent.
+     */
+    private List<String> plansOf(Runnable query) {
+        CapturedStatements.STATEMENTS.clear();
+        query.run();
+        final List<String> statements = List.copyOf(CapturedStatements.STATEMENTS);
+        assertFalse(statements.isEmpty(), "The query sent no statement");
+        final List<String> plans = new ArrayList<>();
+        for (String sql : statements) {
+            plans.add(String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered(sql), String.class)));
+        }
+        return plans;
+    }
+
+    /**
+     * Replaces the JDBC placeholders by the numbered parameters that a generic plan expects.
+     */
+    private static String numbered(String sql) {
+        final StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static void assertUsesIndex(List<String> plans, String table, String index) {
+        for (String plan : plans) {
+            assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+            assertFalse(plan.contains("Seq Scan on " + table), () -> "Unexpected sequential scan of " + table + " in plan:\n" + plan);
+        }
+    }
+
+    @Test
+    void findViewsByCreatorId_usesCreatorIndex() {
+        assertUsesIndex(plansOf(() -> taskRepository.findViewsByCreatorId(userId, FIRST_PAGE)),
+                "tasks", "tasks_creator_id_idx");
+    }
+
+    @Test
+    void findViewsByExecutorId_usesExecutorIndex() {
+        assertUsesIndex(plansOf(() -> taskRepository.findViewsByExecutorId(userId, FIRST_PAGE)),
+                "tasks", "tasks_executor_id_idx");
+    }
+
+    @Test
+    void findViewsByCreatorIdAfter_usesCreatorIndex() {
+        assertUsesIndex(plansOf(() -> taskRepository.findViewsByCreatorIdAfter(userId, Cursors.START, PAGE_LIMIT)),
+                "tasks", "tasks_creator_id_idx");
+    }
+
+    @Test
+    void findViewsByExecutorIdAfter_usesExecutorIndex() {
+        assertUsesIndex(plansOf(() -> taskRepository.findViewsByExecutorIdAfter(userId, Cursors.START, PAGE_LIMIT)),
+                "tasks", "tasks_executor_id_idx");
+    }
+
+    @Test
+    void findViewsAfter_usesPrimaryKey() {
+        assertUsesIndex(plansOf(() -> taskRepository.findViewsAfter(Cursors.START, PAGE_LIMIT)),
+                "tasks", "task_pk");
+    }
+
+    @Test
+    void countByCreatorId_usesCreatorIndex() {
+        assertUsesIndex(plansOf(() -> taskRepository.countByCreatorId(userId)),
+                "tasks", "tasks_creator_id_idx");
+    }
+
+    @Test
+    void findViewsByTaskId_usesCommentTaskIndex() {
+        assertUsesIndex(plansOf(() -> commentRepository.findViewsByTaskId(taskId, FIRST_PAGE)),
+                "task_comment", "task_comment_task_idx");
+    }
+
+    @Test
+    void findExecutorEmailById_usesPrimaryKey() {
+        assertUsesIndex(plansOf(() -> taskRepository.findExecutorEmailById(taskId)),
+                "tasks", "task_pk");
+    }
+
+    @Test
+    void findByEmailIgnoreCase_usesLowerEmailIndex() {
+        assertUsesIndex(plansOf(() -> userRepository.findByEmailIgnoreCase("User1@Plan.test")),
+                "users", "users_email_lower_unique_idx");
+    }
+}
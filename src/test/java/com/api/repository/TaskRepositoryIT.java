@@ -2,17 +2,24 @@ package com.api.repository;
 
 
 import com.api.config.enums.Role;
+import com.api.dto.view.TaskView;
 import com.api.entity.Task;
 import com.api.entity.User;
+import com.api.util.Cursors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -62,36 +69,66 @@ class TaskRepositoryIT {
 
     @Test
 
-    void deleteById() {
-        taskRepository.deleteById(task.getId());
-        assertFalse(taskRepository.findById(task.getId()).isPresent());
+    void deleteByIdInBulk() {
+        assertEquals(1, taskRepository.deleteByIdInBulk(task.getId()));
+        assertFalse(taskRepository.existsById(task.getId()));
 
     }
 
     @Test
-    void findAllByCreatorId() {
+    void findViewsByCreatorId() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> tasks = taskRepository.findAllByCreatorId(creator.getId(), pageable);
+        Page<TaskView> tasks = taskRepository.findViewsByCreatorId(creator.getId(), pageable);
 
         assertFalse(tasks.getContent().isEmpty());
         assertEquals(1, tasks.getContent().size());
-        assertEquals(creator.getId(), tasks.getContent().get(0).getCreator().getId());
+        assertEquals(creator.getId(), tasks.getContent().get(0).creator().id());
     }
 
     @Test
-    void findAllByExecutorId() {
+    void findViewsByExecutorId() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> tasks = taskRepository.findAllByExecutorId(executor.getId(), pageable);
+        Page<TaskView> tasks = taskRepository.findViewsByExecutorId(executor.getId(), pageable);
 
         assertFalse(tasks.getContent().isEmpty());
         assertEquals(1, tasks.getContent().size());
-        assertEquals(executor.getId(),tasks.getContent().get(0).getExecutor().getId());
+        assertEquals(executor.getId(),tasks.getContent().get(0).executor().id());
+
+    }
 
+    @Test
+    void findExecutorEmailById() {
+        assertEquals(executor.getEmail(), taskRepository.findExecutorEmailById(task.getId()).orElseThrow());
+        assertTrue(taskRepository.findExecutorEmailById(UUID.randomUUID()).isEmpty());
     }
 
     @Test
-    void existsByIdAndExecutorEmail() {
-        assertTrue(taskRepository.existsByIdAndExecutorEmail(task.getId(), executor.getEmail()));
+    void findViewsByCreatorIdAfter_walksAllTasksOnce() {
+        for (int i = 0; i < 4; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Test Task " + i)
+                    .description("Test Description")
+                    .status("pending")
+                    .priority("mid")
+                    .creator(creator)
+                    .executor(executor)
+                    .build());
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        UUID lastId = Cursors.START;
+        List<TaskView> page;
+        do {
+            page = taskRepository.findViewsByCreatorIdAfter(creator.getId(), lastId, Limit.of(2));
+            page.forEach(t -> seen.add(t.id()));
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == 2);
+
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().distinct().count());
+        assertTrue(seen.contains(task.getId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,200 @@
+package com.api.repository;
+
+import com.api.config.enums.Role;
+import com.api.entity.Task;
+import com.api.entity.User;
+import com.api.repository.TaskUpdateRepository.BulkChange;
+import com.api.repository.TaskUpdateRepository.Outcome;
+import com.api.repository.TaskUpdateRepository.TaskChange;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskUpdateRepositoryIT {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User creator;
+    private User executor;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        creator = User.builder()
+                .fullName("Name Surname")
+                .email("creator@gmail.com")
+                .password("dsf789ert")
+                .role(Role.ADMIN)
+                .build();
+        executor = User.builder()
+                .fullName("Name Surname")
+                .email("executor@example.com")
+                .password("dsf789ert")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(creator);
+        entityManager.persist(executor);
+        task = Task.builder()
+                .title("Test Task")
+                .description("Test Description")
+                .status("pending")
+                .priority("mid")
+                .creator(creator)
+                .executor(executor)
+                .build();
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void updateStatus_changesTheStatus() {
+        TaskChange change = taskRepository.updateStatus(task.getId(), "completed");
+
+        assertEquals(Outcome.UPDATED, change.outcome());
+        assertEquals("completed", change.task().status());
+        assertEquals(task.getTitle(), change.task().title());
+        assertEquals(creator.getEmail(), change.task().creator().email());
+        assertEquals(Role.USER, change.task().executor().role());
+        assertEquals("completed", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateStatus_reportsTheSameStatusAsUnchanged() {
+        TaskChange change = taskRepository.updateStatus(task.getId(), "pending");
+
+        assertEquals(Outcome.UNCHANGED, change.outcome());
+        assertEquals("pending", change.task().status());
+    }
+
+    @Test
+    void updateStatus_reportsAMissingTaskAsNotFound() {
+        TaskChange change = taskRepository.updateStatus(UUID.randomUUID(), "completed");
+
+        assertEquals(Outcome.NOT_FOUND, change.outcome());
+        assertNull(change.task());
+    }
+
+    @Test
+    void update_writesOnlyTheGivenColumns() {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put(TaskUpdateRepository.DESCRIPTION, null);
+        columns.put(TaskUpdateRepository.EXECUTOR_ID, creator.getId());
+
+        TaskChange change = taskRepository.update(task.getId(), columns);
+
+        assertEquals(Outcome.UPDATED, change.outcome());
+        assertNull(change.task().description());
+        assertEquals(creator.getId(), change.task().executor().id());
+        assertEquals(task.getTitle(), change.task().title());
+        assertEquals("pending", change.task().status());
+    }
+
+    @Test
+    void update_withTheStoredValuesIsUnchanged() {
+        TaskChange change = taskRepository.update(task.getId(),
+                Map.of(TaskUpdateRepository.TITLE, task.getTitle(), TaskUpdateRepository.PRIORITY, task.getPriority()));
+
+        assertEquals(Outcome.UNCHANGED, change.outcome());
+        assertEquals(task.getTitle(), change.task().title());
+    }
+
+    @Test
+    void update_withoutColumnsReadsTheTask() {
+        assertEquals(Outcome.UNCHANGED, taskRepository.update(task.getId(), Map.of()).outcome());
+        assertEquals(Outcome.NOT_FOUND, taskRepository.update(UUID.randomUUID(), Map.of()).outcome());
+    }
+
+    @Test
+    void update_rejectsUnknownColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskRepository.update(task.getId(), Map.of("id", UUID.randomUUID())));
+    }
+
+    @Test
+    void updateAll_countsChangedUnchangedAndDeniedTasks() {
+        Task completed = task("completed", executor);
+        Task foreign = task("pending", creator);
+
+        BulkChange change = taskRepository.updateAll(List.of(task.getId(), completed.getId(), foreign.getId()),
+                Map.of(), Map.of(TaskUpdateRepository.STATUS, "completed"), executor.getEmail());
+
+        assertEquals(new BulkChange(3, 1, 1, 1, List.of()), change);
+        entityManager.clear();
+        assertEquals("completed", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals("pending", taskRepository.findById(foreign.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateAll_withFilterChangesOnlyTheTasksOfTheExecutor() {
+        Task foreign = task("pending", creator);
+
+        BulkChange change = taskRepository.updateAll(null, Map.of(TaskUpdateRepository.STATUS, "pending"),
+                Map.of(TaskUpdateRepository.STATUS, "completed"), executor.getEmail());
+
+        assertEquals(new BulkChange(1, 1, 0, 0, List.of()), change);
+        entityManager.clear();
+        assertEquals("completed", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals("pending", taskRepository.findById(foreign.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateAll_reassignsTheFilteredTasks() {
+        Task other = task("completed", executor);
+
+        BulkChange change = taskRepository.updateAll(null,
+                Map.of(TaskUpdateRepository.EXECUTOR_ID, executor.getId(), TaskUpdateRepository.STATUS, "pending"),
+                Map.of(TaskUpdateRepository.EXECUTOR_ID, creator.getId()), null);
+
+        assertEquals(1, change.matched());
+        assertEquals(List.of(task.getId()), change.reassigned());
+        entityManager.clear();
+        assertEquals(creator.getId(), taskRepository.findById(task.getId()).orElseThrow().getExecutor().getId());
+        assertEquals(executor.getId(), taskRepository.findById(other.getId()).orElseThrow().getExecutor().getId());
+    }
+
+    @Test
+    void updateAll_ignoresMissingIds() {
+        BulkChange change = taskRepository.updateAll(List.of(UUID.randomUUID()), Map.of(),
+                Map.of(TaskUpdateRepository.STATUS, "completed"), null);
+
+        assertEquals(new BulkChange(0, 0, 0, 0, List.of()), change);
+    }
+
+    @Test
+    void updateAll_requiresASelection() {
+        assertThrows(IllegalArgumentException.class, () -> taskRepository.updateAll(null, Map.of(),
+                Map.of(TaskUpdateRepository.STATUS, "completed"), null));
+        assertThrows(IllegalArgumentException.class, () -> taskRepository.updateAll(null,
+                Map.of(TaskUpdateRepository.TITLE, "Test Task"), Map.of(TaskUpdateRepository.STATUS, "completed"), null));
+    }
+
+    private Task task(String status, User taskExecutor) {
+        Task other = Task.builder()
+                .title("Other Task")
+                .description("Test Description")
+                .status(status)
+                .priority("mid")
+                .creator(entityManager.getReference(User.class, creator.getId()))
+                .executor(entityManager.getReference(User.class, taskExecutor.getId()))
+                .build();
+        entityManager.persist(other);
+        entityManager.flush();
+        return other;
+    }
+}
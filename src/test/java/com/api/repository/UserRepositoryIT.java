@@ -34,10 +34,23 @@ class UserRepositoryIT {
     }
 
     @Test
-    void findByEmail() {
+    void findByEmailIgnoreCase() {
 
-        Optional<User> userDB = userRepository.findByEmail(user.getEmail());
+        Optional<User> userDB = userRepository.findByEmailIgnoreCase(user.getEmail());
         assertTrue(userDB.isPresent());
         assertEquals(userDB.get().getPassword(), user.getPassword());
     }
+
+    @Test
+    void findByEmailIgnoreCase_mixedCaseStoredEmail() {
+        User mixedCase = userRepository.save(User.builder()
+                .fullName("Mixed Case")
+                .email("Mixed.Case@Gmail.com")
+                .password("dsf789ert")
+                .role(Role.USER)
+                .build());
+
+        assertEquals(mixedCase.getId(), userRepository.findByEmailIgnoreCase("mixed.case@gmail.com").orElseThrow().getId());
+        assertEquals(mixedCase.getId(), userRepository.findByEmailIgnoreCase("MIXED.CASE@GMAIL.COM").orElseThrow().getId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.api.security;
+
+import com.api.config.enums.Role;
+import com.api.util.TaskPermissionChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccessPoliciesTest {
+
+    private TaskPermissionChecker taskPermissionChecker;
+    private AccessPolicies accessPolicies;
+    private UUID taskId;
+    private RequestAuthorizationContext taskContext;
+
+    @BeforeEach
+    void setUp() {
+        taskPermissionChecker = mock(TaskPermissionChecker.class);
+        accessPolicies = new AccessPolicies(taskPermissionChecker);
+        taskId = UUID.randomUUID();
+        taskContext = new RequestAuthorizationContext(new MockHttpServletRequest(),
+                Map.of(AccessPolicies.TASK_ID, taskId.toString()));
+        when(taskPermissionChecker.isTaskExecutor(taskId, "executor@gmail.com")).thenReturn(true);
+    }
+
+    private static JwtAuthentication authentication(String email, Role role) {
+        JwtAuthentication authentication = new JwtAuthentication();
+        authentication.setEmail(email);
+        authentication.setRole(role);
+        authentication.setAuthenticated(true);
+        return authentication;
+    }
+
+    private static boolean isGranted(AuthorizationManager<RequestAuthorizationContext> policy,
+                                     Authentication authentication, RequestAuthorizationContext context) {
+        AuthorizationDecision decision = policy.check(() -> authentication, context);
+        return decision != null && decision.isGranted();
+    }
+
+    @Test
+    void adminIsGrantedWithoutExecutorLookup() {
+        assertTrue(isGranted(accessPolicies.adminOrTaskExecutor(), authentication("admin@gmail.com", Role.ADMIN), taskContext));
+        assertTrue(isGranted(accessPolicies.admin(), authentication("admin@gmail.com", Role.ADMIN), taskContext));
+
+        verifyNoInteractions(taskPermissionChecker);
+    }
+
+    @Test
+    void executorIsGrantedOnlyForOwnTask() {
+        JwtAuthentication executor = authentication("executor@gmail.com", Role.USER);
+
+        assertTrue(isGranted(accessPolicies.adminOrTaskExecutor(), executor, taskContext));
+        assertFalse(isGranted(accessPolicies.adminOrTaskExecutor(), authentication("other@gmail.com", Role.USER), taskContext));
+        assertFalse(isGranted(accessPolicies.admin(), executor, taskContext));
+    }
+
+    @Test
+    void malformedTaskIdIsDenied() {
+        RequestAuthorizationContext context = new RequestAuthorizationContext(new MockHttpServletRequest(),
+                Map.of(AccessPolicies.TASK_ID, "not-a-uuid"));
+
+        assertFalse(isGranted(accessPolicies.adminOrTaskExecutor(), authentication("executor@gmail.com", Role.USER), context));
+        verifyNoInteractions(taskPermissionChecker);
+    }
+
+    @Test
+    void anonymousAndUnauthenticatedUsersAreDenied() {
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+        JwtAuthentication notAuthenticated = authentication("admin@gmail.com", Role.ADMIN);
+        notAuthenticated.setAuthenticated(false);
+
+        assertFalse(isGranted(accessPolicies.adminOrTaskExecutor(), anonymous, taskContext));
+        assertFalse(isGranted(accessPolicies.admin(), notAuthenticated, taskContext));
+        assertTrue(isGranted(accessPolicies.notAuthenticated(), anonymous, taskContext));
+        assertFalse(isGranted(accessPolicies.notAuthenticated(), authentication("admin@gmail.com", Role.ADMIN), taskContext));
+    }
+}
@@ -0,0 +1,81 @@
+package com.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenRevocationListTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private VerifiedTokenCacheTest.MutableClock clock;
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VerifiedTokenCacheTest.MutableClock();
+        revocationList = new AccessTokenRevocationList(60_000, clock);
+    }
+
+    @Test
+    void isRevoked_afterRevoke_shouldBeTrue() {
+        revocationList.revoke("revoked-id", NOW + 60_000);
+
+        assertTrue(revocationList.isRevoked("revoked-id"));
+        assertFalse(revocationList.isRevoked("other-id"));
+        assertFalse(revocationList.isRevoked(null));
+    }
+
+    @Test
+    void revoke_expiredToken_shouldBeIgnored() {
+        revocationList.revoke("expired-id", NOW);
+
+        assertEquals(0, revocationList.size());
+        assertFalse(revocationList.isRevoked("expired-id"));
+    }
+
+    @Test
+    void rebuild_shouldDropExpiredIds() {
+        revocationList.revoke("short-id", NOW + 1_000);
+        revocationList.revoke("long-id", NOW + 60_000);
+
+        clock.millis = NOW + 2_000;
+        revocationList.rebuild();
+
+        assertEquals(1, revocationList.size());
+        assertFalse(revocationList.isRevoked("short-id"));
+        assertTrue(revocationList.isRevoked("long-id"));
+    }
+
+    @Test
+    void revoke_beyondPrefilterCapacity_shouldKeepAllIds() {
+        String[] ids = new String[5_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            revocationList.revoke(ids[i], NOW + 60_000);
+        }
+
+        for (String id : ids) {
+            assertTrue(revocationList.isRevoked(id));
+        }
+        assertEquals(5_000, revocationList.size());
+    }
+
+    @Test
+    void isRevoked_unknownIds_shouldMostlyStopAtPrefilter() {
+        for (int i = 0; i < 1_000; i++) {
+            revocationList.revoke(UUID.randomUUID().toString(), NOW + 60_000);
+        }
+        long passesBefore = revocationList.getPrefilterPasses();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(revocationList.isRevoked(UUID.randomUUID().toString()));
+        }
+
+        assertTrue(revocationList.getPrefilterPasses() - passesBefore < 500);
+        assertEquals(revocationList.getPrefilterPasses() - passesBefore, revocationList.getFalsePositives());
+    }
+}
@@ -0,0 +1,96 @@
+package com.api.security;
+
+import com.api.config.enums.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastAccessTokenVerifierTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private SecretKey secretKey;
+    private FastAccessTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String keyContent = new ClassPathResource("jwt/access.txt").getContentAsString(StandardCharsets.UTF_8);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(keyContent.trim()));
+        verifier = new FastAccessTokenVerifier(new HmacJwtKey(secretKey));
+    }
+
+    String token(String email, String fullName, long expiresAt) {
+        return Jwts.builder()
+                .setSubject(email)
+                .setId("token-id")
+                .setIssuedAt(new Date(NOW))
+                .setExpiration(new Date(expiresAt))
+                .claim("login", email)
+                .claim("fullName", fullName)
+                .claim("role", Role.ADMIN)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    @Test
+    void verify_tokenFromJjwt_shouldReturnClaims() {
+        VerifiedAccessToken verified = verifier.verify(token("user@gmail.com", "Name \"Nick\" Surname", NOW + 600_000), NOW);
+
+        assertNotNull(verified);
+        assertEquals("user@gmail.com", verified.email());
+        assertEquals(Role.ADMIN, verified.role());
+        assertEquals("token-id", verified.tokenId());
+        assertEquals(NOW + 600_000, verified.expiresAtMillis());
+    }
+
+    @Test
+    void verify_tamperedSignature_shouldFallBack() {
+        String token = token("user@gmail.com", "Name Surname", NOW + 600_000);
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertNull(verifier.verify(tampered, NOW));
+    }
+
+    @Test
+    void verify_tamperedPayload_shouldFallBack() {
+        String token = token("user@gmail.com", "Name Surname", NOW + 600_000);
+        String other = token("admin@gmail.com", "Name Surname", NOW + 600_000);
+        String[] parts = token.split("\\.");
+
+        assertNull(verifier.verify(parts[0] + "." + other.split("\\.")[1] + "." + parts[2], NOW));
+    }
+
+    @Test
+    void verify_expiredToken_shouldFallBack() {
+        assertNull(verifier.verify(token("user@gmail.com", "Name Surname", NOW - 1_000), NOW));
+    }
+
+    @Test
+    void verify_escapedSubject_shouldFallBack() {
+        assertNull(verifier.verify(token("us\"er@gmail.com", "Name Surname", NOW + 600_000), NOW));
+    }
+
+    @Test
+    void verify_otherHeader_shouldFallBack() {
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("user@gmail.com")
+                .setExpiration(new Date(NOW + 600_000))
+                .claim("role", Role.ADMIN)
+                .signWith(secretKey)
+                .compact();
+
+        assertNull(verifier.verify(token, NOW));
+    }
+}
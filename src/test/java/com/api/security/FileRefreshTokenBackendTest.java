@@ -0,0 +1,195 @@
+package com.api.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileRefreshTokenBackendTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    private Path log;
+    private VerifiedTokenCacheTest.MutableClock clock;
+    private FileRefreshTokenBackend backend;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        log = directory.resolve("refresh-tokens.log");
+        clock = new VerifiedTokenCacheTest.MutableClock();
+        restart();
+    }
+
+    @AfterEach
+    void tearDown() {
+        shutdown();
+    }
+
+    void restart() {
+        backend = new FileRefreshTokenBackend(log.toString(), 60_000, clock);
+        store = new RefreshTokenStore(100, 1_000, clock, backend);
+        store.start();
+    }
+
+    void shutdown() {
+        store.stop();
+        backend.stop();
+    }
+
+    @Test
+    void restart_shouldRestoreLiveSessions() {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        store.putIfAbsent("admin@gmail.com", "a.b.d", NOW + 60_000);
+        store.putIfAbsent("old@gmail.com", "a.b.e", NOW + 5_000);
+        store.updateToken("user@gmail.com", "a.b.c", "a.b.f", NOW + 120_000);
+        store.invalidate("admin@gmail.com");
+
+        shutdown();
+        clock.millis = NOW + 10_000;
+        restart();
+
+        assertEquals(1, store.size());
+        assertTrue(store.validateToken("user@gmail.com", "a.b.f"));
+        assertFalse(store.contains("admin@gmail.com"));
+        assertFalse(store.contains("old@gmail.com"));
+    }
+
+    @Test
+    void restart_afterClear_shouldRestoreNothing() {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        store.clear();
+
+        shutdown();
+        restart();
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void restart_withTruncatedRecord_shouldDropIt() throws IOException {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        store.putIfAbsent("admin@gmail.com", "a.b.d", NOW + 60_000);
+        shutdown();
+
+        long size = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+        restart();
+
+        assertTrue(store.validateToken("user@gmail.com", "a.b.c"));
+        assertFalse(store.contains("admin@gmail.com"));
+        store.putIfAbsent("admin@gmail.com", "a.b.e", NOW + 60_000);
+
+        shutdown();
+        restart();
+        assertTrue(store.validateToken("admin@gmail.com", "a.b.e"));
+    }
+
+    @Test
+    void compact_shouldKeepOnlyLiveSessions() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            store.putIfAbsent("user" + i + "@gmail.com", "a.b." + i, NOW + 60_000);
+            store.invalidate("user" + i + "@gmail.com");
+        }
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        long before = Files.size(log);
+
+        backend.compact();
+        store.putIfAbsent("admin@gmail.com", "a.b.d", NOW + 60_000);
+
+        assertTrue(Files.size(log) < before);
+        shutdown();
+        restart();
+        assertEquals(2, store.size());
+        assertTrue(store.validateToken("user@gmail.com", "a.b.c"));
+        assertTrue(store.validateToken("admin@gmail.com", "a.b.d"));
+    }
+
+    @Test
+    void restart_withRecordsOutOfVersionOrder_shouldKeepNewest() {
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.d"), NOW + 60_000, 20);
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.c"), NOW + 60_000, 10);
+        backend.saved("admin@gmail.com", TokenDigest.of("a.b.e"), NOW + 60_000, 30);
+        backend.removed("admin@gmail.com", NOW + 60_000, 40);
+        backend.saved("admin@gmail.com", TokenDigest.of("a.b.f"), NOW + 60_000, 35);
+
+        shutdown();
+        restart();
+
+        assertTrue(store.validateToken("user@gmail.com", "a.b.d"));
+        assertFalse(store.contains("admin@gmail.com"));
+    }
+
+    @Test
+    void compact_withOlderChangeAppendedAfterIt_shouldKeepNewest() throws IOException {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        store.updateToken("user@gmail.com", "a.b.c", "a.b.d", NOW + 60_000);
+
+        backend.compact();
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.c"), NOW + 60_000, 1);
+
+        shutdown();
+        restart();
+        assertTrue(store.validateToken("user@gmail.com", "a.b.d"));
+    }
+
+    @Test
+    void compact_withOlderSaveAppendedAfterRemoval_shouldKeepTombstone() throws IOException {
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.c"), NOW + 60_000, 10);
+        backend.removed("user@gmail.com", NOW + 60_000, 20);
+
+        backend.compact();
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.c"), NOW + 60_000, 10);
+
+        shutdown();
+        restart();
+        assertFalse(store.contains("user@gmail.com"));
+
+        backend.compact();
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.c"), NOW + 60_000, 10);
+
+        shutdown();
+        restart();
+        assertFalse(store.contains("user@gmail.com"));
+    }
+
+    @Test
+    void compact_afterRemovedSessionExpired_shouldDropTombstone() throws IOException {
+        backend.removed("user@gmail.com", NOW + 5_000, 20);
+        backend.compact();
+        long withTombstone = Files.size(log);
+
+        clock.millis = NOW + 5_000;
+        backend.compact();
+
+        assertTrue(Files.size(log) < withTombstone);
+    }
+
+    @Test
+    void compact_withOlderSaveAppendedAfterClear_shouldKeepClear() throws IOException {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        store.clear();
+
+        backend.compact();
+        backend.saved("user@gmail.com", TokenDigest.of("a.b.c"), NOW + 60_000, 1);
+        store.putIfAbsent("admin@gmail.com", "a.b.d", NOW + 60_000);
+
+        shutdown();
+        restart();
+        assertFalse(store.contains("user@gmail.com"));
+        assertTrue(store.validateToken("admin@gmail.com", "a.b.d"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.api.security;
+
+import com.api.config.enums.JwtClaimProfile;
+import com.api.config.enums.Role;
+import com.api.entity.User;
+import com.api.exception.AuthException;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtProviderTest {
+
+    private User user;
+
+    JwtProvider jwtProvider(JwtClaimProfile profile, boolean fastVerifier) throws IOException {
+        JwtProvider jwtProvider = new JwtProvider(Clock.systemUTC());
+        ReflectionTestUtils.setField(jwtProvider, "accessPath", new ClassPathResource("jwt/access.txt").getFile().getPath());
+        ReflectionTestUtils.setField(jwtProvider, "refreshPath", new ClassPathResource("jwt/refresh.txt").getFile().getPath());
+        ReflectionTestUtils.setField(jwtProvider, "claimProfile", profile);
+        ReflectionTestUtils.setField(jwtProvider, "fastVerifierEnabled", fastVerifier);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Name \"Nick\" Surname")
+                .email("user@gmail.com")
+                .password("123_password")
+                .role(Role.ADMIN)
+                .build();
+    }
+
+    @Nested
+    class generateAccessToken {
+
+        @Test
+        void fullProfile_shouldContainAllClaims() throws IOException {
+            Claims claims = jwtProvider(JwtClaimProfile.FULL, false)
+                    .verifyAndExtractAccess(jwtProvider(JwtClaimProfile.FULL, false).generateAccessToken(user))
+                    .getClaimsOrThrow();
+
+            assertEquals("user@gmail.com", claims.getSubject());
+            assertEquals("user@gmail.com", claims.get("login", String.class));
+            assertEquals("Name \"Nick\" Surname", claims.get("fullName", String.class));
+            assertEquals("ADMIN", claims.get("role", String.class));
+            assertNotNull(claims.getId());
+            assertEquals(600, (claims.getExpiration().getTime() - claims.getIssuedAt().getTime()) / 1000);
+        }
+
+        @Test
+        void compactProfile_shouldSkipRedundantClaims() throws IOException {
+            JwtProvider jwtProvider = jwtProvider(JwtClaimProfile.COMPACT, false);
+            String token = jwtProvider.generateAccessToken(user);
+            Claims claims = jwtProvider.verifyAndExtractAccess(token).getClaimsOrThrow();
+
+            assertEquals("user@gmail.com", claims.getSubject());
+            assertNull(claims.get("login"));
+            assertNull(claims.get("fullName"));
+            assertNotNull(claims.getId());
+            assertEquals("ADMIN", claims.get("role", String.class));
+            assertTrue(token.length() < jwtProvider(JwtClaimProfile.FULL, false).generateAccessToken(user).length());
+        }
+
+        @Test
+        void fastVerifier_shouldReadMintedToken() throws IOException {
+            JwtProvider jwtProvider = jwtProvider(JwtClaimProfile.FULL, true);
+            String token = jwtProvider.generateAccessToken(user);
+            VerifiedAccessToken verified = jwtProvider.verifyAccessToken(token);
+
+            assertEquals("user@gmail.com", verified.email());
+            assertEquals(Role.ADMIN, verified.role());
+            assertEquals(jwtProvider.verifyAndExtractAccess(token).getClaimsOrThrow().getId(), verified.tokenId());
+        }
+
+        @Test
+        void expiredToken_shouldBeRejected() throws IOException {
+            JwtProvider jwtProvider = jwtProvider(JwtClaimProfile.FULL, true);
+            ReflectionTestUtils.setField(jwtProvider, "clock",
+                    Clock.fixed(Instant.now().minusSeconds(3600), ZoneOffset.UTC));
+            String token = jwtProvider.generateAccessToken(user);
+            ReflectionTestUtils.setField(jwtProvider, "clock", Clock.systemUTC());
+
+            assertEquals(JwtVerificationResult.FailureReason.EXPIRED,
+                    jwtProvider.verifyAndExtractAccess(token).getFailureReason());
+            assertThrows(AuthException.class, () -> jwtProvider.verifyAccessToken(token));
+        }
+    }
+
+    @Nested
+    class generateRefreshToken {
+
+        @Test
+        void success() throws IOException {
+            JwtProvider jwtProvider = jwtProvider(JwtClaimProfile.FULL, false);
+            Claims claims = jwtProvider.verifyAndExtractRefresh(jwtProvider.generateRefreshToken(user)).getClaimsOrThrow();
+
+            assertEquals("user@gmail.com", claims.getSubject());
+            assertEquals("ADMIN", claims.get("role", String.class));
+        }
+
+        @Test
+        void verifiedWithAccessKey_shouldFail() throws IOException {
+            JwtProvider jwtProvider = jwtProvider(JwtClaimProfile.FULL, false);
+            JwtVerificationResult result = jwtProvider.verifyAndExtractAccess(jwtProvider.generateRefreshToken(user));
+
+            assertFalse(result.isValid());
+            assertEquals(JwtVerificationResult.FailureReason.INVALID_SIGNATURE, result.getFailureReason());
+        }
+    }
+}
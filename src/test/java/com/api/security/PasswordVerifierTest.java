@@ -0,0 +1,143 @@
+package com.api.security;
+
+import com.api.config.PasswordEncoderConfig;
+import com.api.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordVerifierTest {
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoderConfig().passwordEncoder(4, 0);
+        verifier = new PasswordVerifier(passwordEncoder, 2, 4, 5_000, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.stop();
+    }
+
+    @Test
+    void plainTextPasswordMatchesAndIsUpgraded() {
+        PasswordVerifier.Result result = verifier.verify("123_password", "123_password");
+
+        assertTrue(result.matches());
+        assertNotNull(result.upgradedHash());
+        assertTrue(result.upgradedHash().startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("123_password", result.upgradedHash()));
+    }
+
+    @Test
+    void currentHashMatchesWithoutUpgrade() {
+        String hash = passwordEncoder.encode("123_password");
+
+        PasswordVerifier.Result result = verifier.verify("123_password", hash);
+
+        assertTrue(result.matches());
+        assertNull(result.upgradedHash());
+    }
+
+    @Test
+    void hashWithLowerCostIsUpgraded() {
+        String hash = passwordEncoder.encode("123_password");
+        PasswordEncoder stronger = new PasswordEncoderConfig().passwordEncoder(5, 0);
+        PasswordVerifier strongerVerifier = new PasswordVerifier(stronger, 1, 1, 5_000, 3);
+        try {
+            PasswordVerifier.Result result = strongerVerifier.verify("123_password", hash);
+
+            assertTrue(result.matches());
+            assertNotNull(result.upgradedHash());
+            assertTrue(result.upgradedHash().startsWith("{bcrypt}$2a$05$"));
+        } finally {
+            strongerVerifier.stop();
+        }
+    }
+
+    @Test
+    void wrongPasswordDoesNotMatch() {
+        assertFalse(verifier.verify("wrong_password", "123_password").matches());
+        assertFalse(verifier.verify("wrong_password", passwordEncoder.encode("123_password")).matches());
+        assertNull(verifier.verify("wrong_password", "123_password").upgradedHash());
+    }
+
+    @Test
+    void saturatedPoolRejectsWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new LegacyPlaintextPasswordEncoder(passwordEncoder) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return false;
+            }
+        };
+        PasswordVerifier saturated = new PasswordVerifier(blocking, 1, 1, 5_000, 7);
+        try {
+            CompletableFuture<PasswordVerifier.Result> running =
+                    CompletableFuture.supplyAsync(() -> saturated.verify("password", "password"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<PasswordVerifier.Result> queued =
+                    CompletableFuture.supplyAsync(() -> saturated.verify("password", "password"));
+            while (saturated.getQueueSize() == 0) {
+                Thread.onSpinWait();
+            }
+
+            ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+                    () -> saturated.verify("password", "password"));
+            assertEquals(7, e.getRetryAfterSeconds());
+            assertEquals(1, saturated.getRejections());
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS).matches());
+            assertTrue(queued.get(5, TimeUnit.SECONDS).matches());
+        } finally {
+            release.countDown();
+            saturated.stop();
+        }
+    }
+
+    @Test
+    void slowCheckTimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new LegacyPlaintextPasswordEncoder(passwordEncoder) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+        PasswordVerifier slow = new PasswordVerifier(blocking, 1, 1, 50, 2);
+        try {
+            assertThrows(ServiceUnavailableException.class, () -> slow.verify("password", "password"));
+        } finally {
+            release.countDown();
+            slow.stop();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.api.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application instances, each with its own store and backend, sharing one database.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostgresRefreshTokenBackendIT {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private PostgresRefreshTokenBackend firstBackend;
+    private PostgresRefreshTokenBackend secondBackend;
+    private RefreshTokenStore first;
+    private RefreshTokenStore second;
+    private long expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        firstBackend = new PostgresRefreshTokenBackend(dataSource, Clock.systemUTC(), 100, 600_000);
+        first = new RefreshTokenStore(1_000, 60_000, Clock.systemUTC(), firstBackend);
+        first.start();
+        first.clear();
+        secondBackend = new PostgresRefreshTokenBackend(dataSource, Clock.systemUTC(), 100, 600_000);
+        second = new RefreshTokenStore(1_000, 60_000, Clock.systemUTC(), secondBackend);
+        second.start();
+        expiresAt = System.currentTimeMillis() + 60_000;
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.clear();
+        first.stop();
+        second.stop();
+        firstBackend.stop();
+        secondBackend.stop();
+    }
+
+    static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition was not met in time");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void login_shouldBeVisibleOnOtherInstance() throws InterruptedException {
+        first.putIfAbsent("user@gmail.com", "a.b.c", expiresAt);
+
+        await(() -> second.contains("user@gmail.com"));
+        assertTrue(second.validateToken("user@gmail.com", "a.b.c"));
+    }
+
+    @Test
+    void refreshAndLogout_shouldBeVisibleOnOtherInstance() throws InterruptedException {
+        first.putIfAbsent("user@gmail.com", "a.b.c", expiresAt);
+        await(() -> second.contains("user@gmail.com"));
+
+        second.updateToken("user@gmail.com", "a.b.c", "a.b.d", expiresAt + 1_000);
+        await(() -> first.validateToken("user@gmail.com", "a.b.d"));
+
+        first.invalidate("user@gmail.com");
+        await(() -> !second.contains("user@gmail.com"));
+    }
+
+    @Test
+    void newInstance_shouldLoadExistingSessions() {
+        first.putIfAbsent("user@gmail.com", "a.b.c", expiresAt);
+
+        PostgresRefreshTokenBackend thirdBackend = new PostgresRefreshTokenBackend(dataSource, Clock.systemUTC(), 100, 600_000);
+        RefreshTokenStore third = new RefreshTokenStore(1_000, 60_000, Clock.systemUTC(), thirdBackend);
+        third.start();
+        try {
+            assertTrue(third.validateToken("user@gmail.com", "a.b.c"));
+        } finally {
+            third.stop();
+            thirdBackend.stop();
+        }
+    }
+
+    @Test
+    void concurrentLogins_shouldConvergeOnCommittedRow() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int round = 0; round < 20; round++) {
+            String email = "user" + round + "@gmail.com";
+            CountDownLatch start = new CountDownLatch(1);
+            Thread onFirst = new Thread(() -> {
+                awaitQuietly(start);
+                first.putIfAbsent(email, "a.b.first", expiresAt);
+            });
+            Thread onSecond = new Thread(() -> {
+                awaitQuietly(start);
+                second.putIfAbsent(email, "a.b.second", expiresAt);
+            });
+            onFirst.start();
+            onSecond.start();
+            start.countDown();
+            onFirst.join();
+            onSecond.join();
+
+            long committedHigh = jdbcTemplate.queryForObject(
+                    "SELECT token_high FROM task_management_system.refresh_sessions WHERE email = ?", Long.class, email);
+            String committed = TokenDigest.of("a.b.first").high() == committedHigh ? "a.b.first" : "a.b.second";
+            await(() -> first.validateToken(email, committed) && second.validateToken(email, committed));
+        }
+    }
+
+    @Test
+    void malformedNotification_shouldNotStopListener() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String payload : new String[]{"", "S", "S|x|1|2|3|user@gmail.com", "R|1", "X|1|user@gmail.com"}) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", PostgresRefreshTokenBackend.CHANNEL, payload);
+        }
+
+        first.putIfAbsent("user@gmail.com", "a.b.c", expiresAt);
+
+        await(() -> second.validateToken("user@gmail.com", "a.b.c"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshTokenStoreTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private VerifiedTokenCacheTest.MutableClock clock;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VerifiedTokenCacheTest.MutableClock();
+        store = new RefreshTokenStore(2, 1_000, clock, new MemoryOnlyRefreshTokenBackend());
+    }
+
+    @Test
+    void validateToken_shouldCompareDigests() {
+        assertTrue(store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000));
+
+        assertTrue(store.validateToken("user@gmail.com", "a.b.c"));
+        assertFalse(store.validateToken("user@gmail.com", "a.b.d"));
+        assertFalse(store.validateToken("admin@gmail.com", "a.b.c"));
+        assertFalse(store.putIfAbsent("user@gmail.com", "a.b.d", NOW + 60_000));
+    }
+
+    @Test
+    void updateToken_withWrongOldToken_shouldKeepSession() {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+
+        assertFalse(store.updateToken("user@gmail.com", "x.y.z", "a.b.d", NOW + 120_000));
+        assertTrue(store.updateToken("user@gmail.com", "a.b.c", "a.b.d", NOW + 120_000));
+        assertTrue(store.validateToken("user@gmail.com", "a.b.d"));
+        assertFalse(store.validateToken("user@gmail.com", "a.b.c"));
+    }
+
+    @Test
+    void expiredSession_shouldNotBeValidBeforeSweep() {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 5_000);
+        clock.millis = NOW + 5_000;
+
+        assertFalse(store.contains("user@gmail.com"));
+        assertFalse(store.validateToken("user@gmail.com", "a.b.c"));
+        assertTrue(store.putIfAbsent("user@gmail.com", "a.b.d", NOW + 60_000));
+    }
+
+    @Test
+    void sweep_shouldRemoveExpiredSessions() {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 5_000);
+        store.putIfAbsent("admin@gmail.com", "a.b.d", NOW + 60_000);
+
+        clock.millis = NOW + 7_000;
+        store.sweep();
+
+        assertEquals(1, store.size());
+        assertEquals(1, store.getExpirations());
+        assertTrue(store.contains("admin@gmail.com"));
+    }
+
+    @Test
+    void sweep_shouldKeepRescheduledSessions() {
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 5_000);
+        store.updateToken("user@gmail.com", "a.b.c", "a.b.d", NOW + 60_000);
+
+        clock.millis = NOW + 7_000;
+        store.sweep();
+        assertTrue(store.validateToken("user@gmail.com", "a.b.d"));
+
+        clock.millis = NOW + 62_000;
+        store.sweep();
+        assertEquals(0, store.size());
+        assertEquals(1, store.getExpirations());
+    }
+
+    @Test
+    void putIfAbsent_whenFull_shouldEvictSoonestExpiring() {
+        store.putIfAbsent("first@gmail.com", "a.b.c", NOW + 60_000);
+        store.putIfAbsent("second@gmail.com", "a.b.d", NOW + 10_000);
+        store.putIfAbsent("third@gmail.com", "a.b.e", NOW + 30_000);
+
+        assertEquals(2, store.size());
+        assertEquals(1, store.getEvictions());
+        assertFalse(store.contains("second@gmail.com"));
+        assertTrue(store.contains("first@gmail.com"));
+        assertTrue(store.contains("third@gmail.com"));
+    }
+
+    @Test
+    void putIfAbsent_whenFull_shouldNotEvictSessionOfLaterWheelRevolution() {
+        store.putIfAbsent("later@gmail.com", "a.b.c", NOW + 1_100_000);
+        store.putIfAbsent("soonest@gmail.com", "a.b.d", NOW + 200_000);
+        store.putIfAbsent("third@gmail.com", "a.b.e", NOW + 600_000);
+
+        assertEquals(1, store.getEvictions());
+        assertFalse(store.contains("soonest@gmail.com"));
+        assertTrue(store.contains("later@gmail.com"));
+        assertTrue(store.contains("third@gmail.com"));
+    }
+
+    @Test
+    void changes_shouldReachBackendAfterStoreWithIncreasingVersions() {
+        RecordingBackend backend = new RecordingBackend();
+        store = new RefreshTokenStore(2, 1_000, clock, backend);
+        backend.onSaved = () -> assertTrue(store.contains("user@gmail.com"));
+
+        store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+        store.updateToken("user@gmail.com", "a.b.c", "a.b.d", NOW + 120_000);
+        store.invalidate("user@gmail.com");
+
+        assertEquals(3, backend.versions.size());
+        assertTrue(backend.versions.get(0) < backend.versions.get(1));
+        assertTrue(backend.versions.get(1) < backend.versions.get(2));
+    }
+
+    @Test
+    void backendChanges_olderThanSession_shouldBeIgnored() {
+        RecordingBackend backend = new RecordingBackend();
+        store = new RefreshTokenStore(2, 1_000, clock, backend);
+        store.start();
+        try {
+            store.putIfAbsent("user@gmail.com", "a.b.c", NOW + 60_000);
+            long version = backend.versions.get(0);
+
+            backend.sessions.restore("user@gmail.com", TokenDigest.of("a.b.d"), NOW + 60_000, version - 1);
+            assertTrue(store.validateToken("user@gmail.com", "a.b.c"));
+            backend.sessions.forget("user@gmail.com", version - 1);
+            assertTrue(store.validateToken("user@gmail.com", "a.b.c"));
+
+            backend.sessions.restore("user@gmail.com", TokenDigest.of("a.b.d"), NOW + 60_000, version + 1);
+            assertTrue(store.validateToken("user@gmail.com", "a.b.d"));
+            backend.sessions.forget("user@gmail.com", version + 1);
+            assertFalse(store.contains("user@gmail.com"));
+
+            store.putIfAbsent("user@gmail.com", "a.b.e", NOW + 60_000);
+            assertTrue(backend.versions.get(1) > version + 1);
+        } finally {
+            store.stop();
+        }
+    }
+
+    private static class RecordingBackend extends MemoryOnlyRefreshTokenBackend {
+
+        private final List<Long> versions = new ArrayList<>();
+        private Sessions sessions;
+        private Runnable onSaved = () -> {
+        };
+
+        @Override
+        public void start(Sessions sessions) {
+            this.sessions = sessions;
+        }
+
+        @Override
+        public void saved(String email, TokenDigest digest, long expiresAtMillis, long version) {
+            onSaved.run();
+            versions.add(version);
+        }
+
+        @Override
+        public void removed(String email, long expiresAtMillis, long version) {
+            versions.add(version);
+        }
+    }
+}
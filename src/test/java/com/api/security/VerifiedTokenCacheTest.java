@@ -0,0 +1,79 @@
+package com.api.security;
+
+import com.api.config.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+    private VerifiedAccessToken token;
+
+    static class MutableClock extends Clock {
+        long millis = NOW;
+
+        @Override
+        public ZoneOffset getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return Instant.ofEpochMilli(millis); }
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new VerifiedTokenCache(2, clock);
+        token = new VerifiedAccessToken("user@gmail.com", Role.USER, "token-id", NOW + 60_000);
+    }
+
+    @Test
+    void get_afterPut_shouldHit() {
+        cache.put(TokenDigest.of("a.b.c"), token);
+
+        assertSame(token, cache.get(TokenDigest.of("a.b.c")));
+        assertNull(cache.get(TokenDigest.of("a.b.d")));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void put_expiredToken_shouldBeIgnored() {
+        VerifiedAccessToken expired = new VerifiedAccessToken("user@gmail.com", Role.USER, "token-id", NOW - 1);
+        cache.put(TokenDigest.of("a.b.c"), expired);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_tokenExpiredInCache_shouldMissAndEvict() {
+        cache.put(TokenDigest.of("a.b.c"), token);
+        clock.millis = token.expiresAtMillis();
+
+        assertNull(cache.get(TokenDigest.of("a.b.c")));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_fullCache_shouldStayBounded() {
+        cache.put(TokenDigest.of("a.b.c"), token);
+        cache.put(TokenDigest.of("d.e.f"), token);
+        cache.put(TokenDigest.of("g.h.i"), token);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertSame(token, cache.get(TokenDigest.of("g.h.i")));
+    }
+}
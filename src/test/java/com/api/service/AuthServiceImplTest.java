@@ -72,7 +72,7 @@
 //                .password("123_password")
 //                .role(Role.ADMIN)
 //                .build();
-//        when(userRepository.findByEmail(userDB.getEmail())).thenReturn(Optional.of(userDB));
+//        when(userRepository.findByEmailIgnoreCase(userDB.getEmail())).thenReturn(Optional.of(userDB));
 //    }
 //
 //    @AfterEach
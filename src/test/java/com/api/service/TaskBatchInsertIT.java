@@ -0,0 +1,107 @@
+package com.api.service;
+
+import com.api.config.enums.Role;
+import com.api.dto.TaskBatchResultDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.dto.UserDto;
+import com.api.entity.User;
+import com.api.service.interfaces.TaskService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates thousands of tasks in one batch against the database. The rows are inserted with JDBC,
+ * so they are checked with plain SQL. Every test runs in a transaction that is rolled back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Transactional
+class TaskBatchInsertIT {
+
+    private static final int TASKS = 2_000;
+    private static final String SCHEMA = "task_management_system";
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserDto creator;
+    private UserDto executor;
+
+    @BeforeEach
+    void setUp() {
+        creator = user("batch.creator@gmail.com", Role.ADMIN);
+        executor = user("batch.executor@gmail.com", Role.USER);
+        entityManager.flush();
+    }
+
+    @Test
+    void addTasks_insertsEveryValidItem() {
+        List<TaskNoIdDto> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(task("Batch task " + i, executor));
+        }
+
+        TaskBatchResultDto result = taskService.addTasks(tasks);
+
+        assertEquals(TASKS, result.created());
+        assertEquals(0, result.rejected());
+        assertEquals(TASKS, countTasksOf(creator.getId()));
+        UUID lastId = result.items().get(TASKS - 1).id();
+        assertEquals("Batch task " + (TASKS - 1), jdbcTemplate.queryForObject(
+                "SELECT title FROM " + SCHEMA + ".tasks WHERE id = ?", String.class, lastId));
+    }
+
+    @Test
+    void addTasks_skipsItemsWithUnknownUsers() {
+        UserDto unknown = UserDto.builder().id(UUID.randomUUID()).build();
+
+        TaskBatchResultDto result = taskService.addTasks(List.of(
+                task("Known executor", executor),
+                task("Unknown executor", unknown)));
+
+        assertEquals(1, result.created());
+        assertEquals(List.of("There is no such executor"), result.items().get(1).errors());
+        assertEquals(1, countTasksOf(creator.getId()));
+    }
+
+    private Integer countTasksOf(UUID creatorId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + SCHEMA + ".tasks WHERE id_creator = ?", Integer.class, creatorId);
+    }
+
+    private TaskNoIdDto task(String title, UserDto taskExecutor) {
+        return TaskNoIdDto.builder()
+                .title(title)
+                .description("Description")
+                .status("pending")
+                .priority("low")
+                .creator(creator)
+                .executor(taskExecutor)
+                .build();
+    }
+
+    private UserDto user(String email, Role role) {
+        User user = User.builder()
+                .fullName("Name Surname")
+                .email(email)
+                .password("dsf789ert")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return new UserDto(user.getId(), user.getFullName(), user.getEmail(), null, user.getRole());
+    }
+}
@@ -0,0 +1,172 @@
+package com.api.service;
+
+import com.api.config.enums.Role;
+import com.api.dto.IdDto;
+import com.api.dto.TaskDto;
+import com.api.dto.UserDto;
+import com.api.entity.Task;
+import com.api.entity.User;
+import com.api.exception.BadRequestException;
+import com.api.repository.CommentRepository;
+import com.api.repository.TaskRepository;
+import com.api.service.interfaces.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements of updating and deleting a task that has thousands of comments.
+ * Neither may load the comments, so the counts do not depend on their number.
+ * A user that is changed by the update is read once more, when the result is mapped to the DTO.
+ * Every test runs in a transaction that is rolled back; the pending changes are flushed inside the measurement.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TaskWriteStatementCountIT {
+
+    private static final int COMMENTS = 3_000;
+    private static final String SCHEMA = "task_management_system";
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User creator;
+    private User executor;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        creator = user("statements.creator@gmail.com", Role.ADMIN);
+        executor = user("statements.executor@gmail.com", Role.USER);
+        task = Task.builder()
+                .title("Task with comments")
+                .description("Description")
+                .status("pending")
+                .priority("mid")
+                .creator(creator)
+                .executor(executor)
+                .build();
+        entityManager.persist(task);
+        entityManager.flush();
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".task_comment (id, description, id_author, id_task) "
+                + "SELECT gen_random_uuid(), 'Comment ' || g, ?, ? FROM generate_series(1, ?) g",
+                executor.getId(), task.getId(), COMMENTS);
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void updateTask_isOneSelectAndOneUpdate() {
+        TaskDto taskDto = new TaskDto(task.getId(), "New title", "New description", "in progress", "high",
+                dto(creator), dto(executor));
+
+        long statements = count(() -> {
+            TaskDto updated = taskService.updateTask(taskDto);
+            assertEquals("New title", updated.getTitle());
+            assertEquals(executor.getEmail(), updated.getExecutor().getEmail());
+        });
+
+        assertEquals(2, statements);
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(COMMENTS, commentRepository.countByTaskId(task.getId()));
+    }
+
+    @Test
+    void updateTask_withNewExecutor_readsOnlyTheNewExecutor() {
+        User newExecutor = user("statements.new.executor@gmail.com", Role.USER);
+        entityManager.flush();
+        entityManager.clear();
+        TaskDto taskDto = new TaskDto(task.getId(), "New title", "New description", "in progress", "high",
+                dto(creator), dto(newExecutor));
+
+        long statements = count(() -> {
+            TaskDto updated = taskService.updateTask(taskDto);
+            assertEquals(newExecutor.getEmail(), updated.getExecutor().getEmail());
+            assertEquals(creator.getEmail(), updated.getCreator().getEmail());
+        });
+
+        assertEquals(3, statements);
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(newExecutor.getEmail(), taskRepository.findExecutorEmailById(task.getId()).orElseThrow());
+    }
+
+    @Test
+    void updateTask_withNewCreatorAndExecutor_readsEachNewUserOnce() {
+        User newCreator = user("statements.new.creator@gmail.com", Role.ADMIN);
+        User newExecutor = user("statements.new.executor@gmail.com", Role.USER);
+        entityManager.flush();
+        entityManager.clear();
+        TaskDto taskDto = new TaskDto(task.getId(), "New title", "New description", "in progress", "high",
+                dto(newCreator), dto(newExecutor));
+
+        long statements = count(() -> {
+            TaskDto updated = taskService.updateTask(taskDto);
+            assertEquals(newCreator.getEmail(), updated.getCreator().getEmail());
+            assertEquals(newExecutor.getEmail(), updated.getExecutor().getEmail());
+        });
+
+        assertEquals(4, statements);
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void deleteTask_isTwoBulkDeletes() {
+        long statements = count(() -> taskService.deleteTask(new IdDto(task.getId())));
+
+        assertEquals(2, statements);
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertEquals(0, commentRepository.countByTaskId(task.getId()));
+    }
+
+    @Test
+    void deleteTask_missingTask_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> taskService.deleteTask(new IdDto(UUID.randomUUID())));
+    }
+
+    private long count(Runnable write) {
+        statistics.clear();
+        write.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User user(String email, Role role) {
+        User user = User.builder()
+                .fullName("Name Surname")
+                .email(email)
+                .password("dsf789ert")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private static UserDto dto(User user) {
+        return new UserDto(user.getId(), user.getFullName(), user.getEmail(), null, user.getRole());
+    }
+}
@@ -0,0 +1,139 @@
+package com.api.service.batch;
+
+import com.api.dto.TaskBatchItemResultDto;
+import com.api.dto.TaskBatchResultDto;
+import com.api.dto.TaskNoIdDto;
+import com.api.dto.UserDto;
+import com.api.exception.BadRequestException;
+import com.api.repository.TaskInsertRepository.NewTask;
+import com.api.repository.TaskRepository;
+import com.api.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskBatchCreatorTest {
+
+    private static final UUID CREATOR = UUID.randomUUID();
+    private static final UUID EXECUTOR = UUID.randomUUID();
+    private static final UUID UNKNOWN = UUID.randomUUID();
+
+    private ValidatorFactory validatorFactory;
+    private TaskRepository taskRepository;
+    private UserRepository userRepository;
+    private TaskBatchCreator creator;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        taskRepository = mock(TaskRepository.class);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(CREATOR, EXECUTOR));
+        creator = new TaskBatchCreator(taskRepository, userRepository, validatorFactory.getValidator(), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private static TaskNoIdDto task(String title, UUID creatorId, UUID executorId) {
+        return TaskNoIdDto.builder()
+                .title(title)
+                .description("Description")
+                .status("pending")
+                .priority("mid")
+                .creator(UserDto.builder().id(creatorId).build())
+                .executor(UserDto.builder().id(executorId).build())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NewTask> inserted() {
+        final ArgumentCaptor<List<NewTask>> rows = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).insertAll(rows.capture());
+        return rows.getValue();
+    }
+
+    @Test
+    void validTasksAreInsertedTogetherWithAssignedIds() {
+        final TaskBatchResultDto result = creator.create(List.of(
+                task("First", CREATOR, EXECUTOR),
+                task("Second", EXECUTOR, CREATOR)));
+
+        assertEquals(2, result.created());
+        assertEquals(0, result.rejected());
+        final List<NewTask> rows = inserted();
+        assertEquals(2, rows.size());
+        assertEquals("First", rows.get(0).title());
+        assertEquals(EXECUTOR, rows.get(1).creatorId());
+        assertEquals(rows.get(0).id(), result.items().get(0).id());
+        assertEquals(rows.get(1).id(), result.items().get(1).id());
+        assertNotEquals(rows.get(0).id(), rows.get(1).id());
+        verify(userRepository, times(1)).findExistingIds(argThat(ids -> ids.size() == 2));
+    }
+
+    @Test
+    void invalidItemsAreReportedAndSkipped() {
+        final TaskNoIdDto noCreatorId = task("No creator id", null, EXECUTOR);
+        final TaskBatchResultDto result = creator.create(List.of(
+                task("", CREATOR, EXECUTOR),
+                task("Valid", CREATOR, EXECUTOR),
+                noCreatorId));
+
+        assertEquals(1, result.created());
+        assertEquals(2, result.rejected());
+        final TaskBatchItemResultDto emptyTitle = result.items().get(0);
+        assertEquals(0, emptyTitle.index());
+        assertNull(emptyTitle.id());
+        assertEquals(List.of("Acceptable task size is 1-250"), emptyTitle.errors());
+        assertNotNull(result.items().get(1).id());
+        assertTrue(result.items().get(1).errors().isEmpty());
+        assertEquals(List.of("Creator must have an id"), result.items().get(2).errors());
+        assertEquals(List.of("Valid"), inserted().stream().map(NewTask::title).toList());
+    }
+
+    @Test
+    void unknownUsersAreRejected() {
+        final TaskBatchResultDto result = creator.create(List.of(
+                task("Unknown creator", UNKNOWN, EXECUTOR),
+                task("Unknown executor", CREATOR, UNKNOWN)));
+
+        assertEquals(0, result.created());
+        assertEquals(List.of("There is no such creator"), result.items().get(0).errors());
+        assertEquals(List.of("There is no such executor"), result.items().get(1).errors());
+        verify(taskRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void nullItemIsRejected() {
+        final TaskBatchResultDto result = creator.create(Arrays.asList(null, task("Valid", CREATOR, EXECUTOR)));
+
+        assertEquals(List.of("Task must not be null"), result.items().get(0).errors());
+        assertEquals(1, result.created());
+    }
+
+    @Test
+    void batchSizeIsBounded() {
+        final List<TaskNoIdDto> tooMany = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tooMany.add(task("Task " + i, CREATOR, EXECUTOR));
+        }
+        assertThrows(BadRequestException.class, () -> creator.create(List.of()));
+        assertThrows(BadRequestException.class, () -> creator.create(tooMany));
+        verifyNoInteractions(taskRepository);
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.service.batch;
+
+import com.api.dto.TaskBulkResultDto;
+import com.api.dto.TaskBulkUpdateDto;
+import com.api.dto.TaskFilterDto;
+import com.api.exception.BadRequestException;
+import com.api.exception.ForbiddenException;
+import com.api.repository.TaskRepository;
+import com.api.repository.TaskUpdateRepository.BulkChange;
+import com.api.util.TaskPermissionChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskBulkUpdaterTest {
+
+    private static final String EMAIL = "executor@gmail.com";
+    private static final UUID FIRST = UUID.randomUUID();
+    private static final UUID SECOND = UUID.randomUUID();
+    private static final UUID USER = UUID.randomUUID();
+
+    private TaskRepository taskRepository;
+    private TaskPermissionChecker taskPermissionChecker;
+    private TaskBulkUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskPermissionChecker = mock(TaskPermissionChecker.class);
+        updater = new TaskBulkUpdater(taskRepository, taskPermissionChecker, 4);
+    }
+
+    @Test
+    void statusChangeOfExecutorIsCheckedPerTaskByTheStatement() {
+        when(taskRepository.updateAll(any(), anyMap(), anyMap(), any())).thenReturn(new BulkChange(2, 1, 0, 1, List.of()));
+
+        final TaskBulkResultDto result = updater.update(
+                new TaskBulkUpdateDto(List.of(FIRST, SECOND, FIRST, UUID.randomUUID()), null, "completed", null), EMAIL, false);
+
+        assertEquals(new TaskBulkResultDto(1, 0, 1, 1), result);
+        verify(taskRepository).updateAll(argThat(ids -> ids.size() == 3 && ids.containsAll(Set.of(FIRST, SECOND))),
+                eq(Map.of()), eq(Map.of("status", "completed")), eq(EMAIL));
+        verifyNoInteractions(taskPermissionChecker);
+    }
+
+    @Test
+    void adminReassignmentByFilterInvalidatesTheChangedTasks() {
+        when(taskRepository.updateAll(any(), anyMap(), anyMap(), any())).thenReturn(new BulkChange(3, 2, 1, 0, List.of(FIRST, SECOND)));
+
+        final TaskBulkResultDto result = updater.update(
+                new TaskBulkUpdateDto(null, new TaskFilterDto(null, USER, "pending"), null, USER), EMAIL, true);
+
+        assertEquals(new TaskBulkResultDto(2, 1, 0, 0), result);
+        verify(taskRepository).updateAll(isNull(), eq(Map.of("id_executor", USER, "status", "pending")),
+                eq(Map.of("id_executor", USER)), isNull());
+        verify(taskPermissionChecker).invalidate(FIRST);
+        verify(taskPermissionChecker).invalidate(SECOND);
+    }
+
+    @Test
+    void reassignmentIsOnlyForAdmin() {
+        assertThrows(ForbiddenException.class, () -> updater.update(
+                new TaskBulkUpdateDto(List.of(FIRST), null, null, USER), EMAIL, false));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void selectionAndValuesAreRequired() {
+        assertThrows(BadRequestException.class, () -> updater.update(
+                new TaskBulkUpdateDto(null, null, "completed", null), EMAIL, true));
+        assertThrows(BadRequestException.class, () -> updater.update(
+                new TaskBulkUpdateDto(List.of(FIRST), new TaskFilterDto(USER, null, null), "completed", null), EMAIL, true));
+        assertThrows(BadRequestException.class, () -> updater.update(
+                new TaskBulkUpdateDto(List.of(FIRST), null, null, null), EMAIL, true));
+        assertThrows(BadRequestException.class, () -> updater.update(
+                new TaskBulkUpdateDto(null, new TaskFilterDto(null, null, null), "completed", null), EMAIL, true));
+        assertThrows(BadRequestException.class, () -> updater.update(
+                new TaskBulkUpdateDto(List.of(), null, "completed", null), EMAIL, true));
+        assertThrows(BadRequestException.class, () -> updater.update(new TaskBulkUpdateDto(
+                List.of(FIRST, SECOND, USER, UUID.randomUUID(), UUID.randomUUID()), null, "completed", null), EMAIL, true));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void unknownExecutorIsBadRequest() {
+        when(taskRepository.updateAll(any(), anyMap(), anyMap(), any()))
+                .thenThrow(new DataIntegrityViolationException("task_executor_fk"));
+
+        assertThrows(BadRequestException.class, () -> updater.update(
+                new TaskBulkUpdateDto(List.of(FIRST), null, null, USER), EMAIL, true));
+    }
+}
@@ -0,0 +1,159 @@
+package com.api.service.cache;
+
+import com.api.config.enums.Role;
+import com.api.entity.User;
+import com.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserByEmailCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private UserRepository userRepository;
+    private MutableClock clock;
+    private UserByEmailCache cache;
+    private User user;
+
+    static class MutableClock extends Clock {
+        long millis = NOW;
+
+        @Override
+        public ZoneOffset getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return Instant.ofEpochMilli(millis); }
+    }
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        clock = new MutableClock();
+        cache = new UserByEmailCache(userRepository, 2, 60_000, clock);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Name Surname")
+                .email("user@gmail.com")
+                .password("123_password")
+                .role(Role.USER)
+                .build();
+        when(userRepository.findByEmailIgnoreCase("user@gmail.com")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void get_normalizedEmail_shouldHitCache() {
+        assertSame(user, cache.get("user@gmail.com").orElseThrow());
+        assertSame(user, cache.get("  User@Gmail.com ").orElseThrow());
+
+        verify(userRepository, times(1)).findByEmailIgnoreCase("user@gmail.com");
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void get_mixedCaseEmail_shouldQueryIgnoringCaseWithTrimmedEmail() {
+        User mixedCase = User.builder().id(UUID.randomUUID()).email("Mixed.Case@Gmail.com").build();
+        when(userRepository.findByEmailIgnoreCase("MIXED.case@gmail.com")).thenReturn(Optional.of(mixedCase));
+
+        assertSame(mixedCase, cache.get(" MIXED.case@gmail.com ").orElseThrow());
+        assertSame(mixedCase, cache.get("mixed.case@gmail.com").orElseThrow());
+
+        verify(userRepository, times(1)).findByEmailIgnoreCase("MIXED.case@gmail.com");
+    }
+
+    @Test
+    void get_afterTtl_shouldReload() {
+        cache.get("user@gmail.com");
+        clock.millis = NOW + 60_000;
+        cache.get("user@gmail.com");
+
+        verify(userRepository, times(2)).findByEmailIgnoreCase("user@gmail.com");
+    }
+
+    @Test
+    void get_unknownEmail_shouldNotBeCached() {
+        when(userRepository.findByEmailIgnoreCase("other@gmail.com")).thenReturn(Optional.empty());
+
+        assertTrue(cache.get("other@gmail.com").isEmpty());
+        assertTrue(cache.get("other@gmail.com").isEmpty());
+
+        verify(userRepository, times(2)).findByEmailIgnoreCase("other@gmail.com");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_changedEmail_shouldDropOldEntry() {
+        cache.get("user@gmail.com");
+        User changed = User.builder().id(user.getId()).email("new@gmail.com").build();
+
+        cache.invalidate(changed);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_full_shouldEvict() {
+        for (String email : List.of("a@gmail.com", "b@gmail.com", "c@gmail.com", "d@gmail.com")) {
+            when(userRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(User.builder().id(UUID.randomUUID()).email(email).build()));
+            cache.get(email);
+        }
+
+        assertTrue(cache.size() <= 3);
+        assertTrue(cache.getEvictions() > 0);
+    }
+
+    @Test
+    void get_concurrentMisses_shouldQueryOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findByEmailIgnoreCase("user@gmail.com")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<User>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("user@gmail.com")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Optional<User>> result : results) {
+                assertSame(user, result.get(5, TimeUnit.SECONDS).orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userRepository, times(1)).findByEmailIgnoreCase("user@gmail.com");
+    }
+
+    @Test
+    void get_failedLoad_shouldNotBeCached() {
+        when(userRepository.findByEmailIgnoreCase("user@gmail.com"))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(Optional.of(user));
+
+        assertThrows(IllegalStateException.class, () -> cache.get("user@gmail.com"));
+        assertSame(user, cache.get("user@gmail.com").orElseThrow());
+    }
+}
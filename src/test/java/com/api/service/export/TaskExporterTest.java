@@ -0,0 +1,120 @@
+package com.api.service.export;
+
+import com.api.config.enums.Role;
+import com.api.dto.TaskDto;
+import com.api.dto.view.TaskView;
+import com.api.dto.view.UserSummary;
+import com.api.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskExporterTest {
+
+    private static final int TASKS = 1_200;
+    private static final UserSummary USER = new UserSummary(UUID.randomUUID(), "Name Surname", "user@gmail.com", Role.USER);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TaskRepository taskRepository;
+    private PlatformTransactionManager transactionManager;
+    private TaskExporter exporter;
+    private AtomicBoolean streamClosed;
+
+    static class CountingOutputStream extends ByteArrayOutputStream {
+        int flushes;
+        boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        exporter = new TaskExporter(taskRepository, transactionManager, objectMapper);
+        streamClosed = new AtomicBoolean();
+        when(taskRepository.streamAllViews()).thenAnswer(invocation -> IntStream.range(0, TASKS)
+                .mapToObj(i -> new TaskView(UUID.randomUUID(), "Task " + i, null, "pending", "mid", USER, USER))
+                .onClose(() -> streamClosed.set(true)));
+    }
+
+    @Test
+    void writesOneTaskPerLineInAReadOnlyTransaction() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+
+        assertEquals(TASKS, exporter.export(out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(TASKS + 1, lines.length);
+        assertEquals("", lines[TASKS]);
+        TaskDto last = objectMapper.readValue(lines[TASKS - 1], TaskDto.class);
+        assertEquals("Task " + (TASKS - 1), last.getTitle());
+        assertEquals(USER.email(), last.getExecutor().getEmail());
+        assertNull(last.getExecutor().getPassword());
+        assertTrue(streamClosed.get());
+        assertFalse(out.closed);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void flushesAfterEveryBlockOfRows() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+
+        exporter.export(out);
+
+        assertTrue(out.flushes >= TASKS / TaskExporter.FLUSH_ROWS + 1);
+    }
+
+    @Test
+    void writeFailureStopsTheExport() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> exporter.export(broken));
+        assertTrue(streamClosed.get());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void emptyTableWritesNothing() throws IOException {
+        when(taskRepository.streamAllViews()).thenReturn(Stream.empty());
+        CountingOutputStream out = new CountingOutputStream();
+
+        assertEquals(0, exporter.export(out));
+        assertEquals(0, out.size());
+    }
+}
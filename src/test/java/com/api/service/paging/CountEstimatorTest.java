@@ -0,0 +1,129 @@
+package com.api.service.paging;
+
+import com.api.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CountEstimatorTest {
+
+    private static final String TABLE = "task_management_system.tasks";
+
+    private JdbcTemplate jdbcTemplate;
+    private MutableClock clock;
+    private CountEstimator estimator;
+    private AtomicInteger exactCounts;
+
+    static class MutableClock extends Clock {
+        long millis = 1_700_000_000_000L;
+
+        @Override
+        public ZoneOffset getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return Instant.ofEpochMilli(millis); }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        clock = new MutableClock();
+        estimator = new CountEstimator(jdbcTemplate, 2, 60_000, clock);
+        exactCounts = new AtomicInteger();
+    }
+
+    private long exactCount() {
+        exactCounts.incrementAndGet();
+        return 42;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void plannerEstimate(Long estimate) {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(TABLE))).thenReturn(estimate);
+    }
+
+    @Test
+    void unfilteredListingUsesPlannerEstimate() {
+        plannerEstimate(1_000_000L);
+
+        assertEquals(1_000_000L, estimator.estimateTable(TABLE, this::exactCount));
+        assertEquals(0, exactCounts.get());
+    }
+
+    @Test
+    void tableWithoutStatisticsFallsBackToCachedCount() {
+        plannerEstimate(-1L);
+
+        assertEquals(42, estimator.estimateTable(TABLE, this::exactCount));
+        assertEquals(42, estimator.estimateTable(TABLE, this::exactCount));
+        assertEquals(1, exactCounts.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void catalogErrorFallsBackToCachedCount() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(TABLE)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertEquals(42, estimator.estimateTable(TABLE, this::exactCount));
+    }
+
+    @Test
+    void cachedCountExpiresAfterTtl() {
+        assertEquals(42, estimator.cachedCount("tasks.creator:1", this::exactCount));
+        clock.millis += 59_999;
+        assertEquals(42, estimator.cachedCount("tasks.creator:1", this::exactCount));
+        assertEquals(1, exactCounts.get());
+
+        clock.millis += 1;
+        estimator.cachedCount("tasks.creator:1", this::exactCount);
+        assertEquals(2, exactCounts.get());
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i < 5; i++) {
+            estimator.cachedCount("tasks.creator:" + i, this::exactCount);
+        }
+
+        assertTrue(estimator.size() <= 2);
+    }
+
+    @Test
+    void estimatedTotalCoversTheRowsSeen() {
+        Page<String> page = CountEstimator.toPage(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(3, 2), true), 1);
+
+        assertEquals(List.of("a", "b"), page.getContent());
+        assertEquals(9, page.getTotalElements());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void countStrategyIsParsedCaseInsensitively() {
+        assertEquals(CountStrategy.ESTIMATED, CountStrategy.of("Estimated"));
+        assertEquals(CountStrategy.NONE, CountStrategy.of("none"));
+        assertEquals("exact", CountStrategy.EXACT.headerValue());
+        assertThrows(BadRequestException.class, () -> CountStrategy.of("approximate"));
+        assertThrows(BadRequestException.class, () -> CountStrategy.of(null));
+    }
+}
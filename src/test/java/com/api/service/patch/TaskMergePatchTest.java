@@ -0,0 +1,75 @@
+package com.api.service.patch;
+
+import com.api.exception.BadRequestException;
+import com.api.repository.TaskUpdateRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TaskMergePatch parse(String json) throws Exception {
+        JsonNode document = objectMapper.readTree(json);
+        return TaskMergePatch.parse(document);
+    }
+
+    @Test
+    void parse_keepsOnlyThePresentMembersInOrder() throws Exception {
+        UUID executorId = UUID.randomUUID();
+
+        TaskMergePatch patch = parse("{\"status\": \"completed\", \"executor\": \"" + executorId + "\", \"title\": \"New title\"}");
+
+        assertEquals(List.of(TaskUpdateRepository.STATUS, TaskUpdateRepository.EXECUTOR_ID, TaskUpdateRepository.TITLE),
+                List.copyOf(patch.columns().keySet()));
+        assertEquals("completed", patch.columns().get(TaskUpdateRepository.STATUS));
+        assertEquals(executorId, patch.columns().get(TaskUpdateRepository.EXECUTOR_ID));
+        assertTrue(patch.changesExecutor());
+    }
+
+    @Test
+    void parse_nullClearsTheDescription() throws Exception {
+        TaskMergePatch patch = parse("{\"description\": null}");
+
+        assertTrue(patch.columns().containsKey(TaskUpdateRepository.DESCRIPTION));
+        assertNull(patch.columns().get(TaskUpdateRepository.DESCRIPTION));
+        assertFalse(patch.changesExecutor());
+    }
+
+    @Test
+    void parse_emptyObjectChangesNothing() throws Exception {
+        assertTrue(parse("{}").columns().isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[]",
+            "\"text\"",
+            "{\"title\": null}",
+            "{\"title\": \"\"}",
+            "{\"title\": 5}",
+            "{\"status\": null}",
+            "{\"status\": \"done\"}",
+            "{\"priority\": \"urgent\"}",
+            "{\"creator\": null}",
+            "{\"executor\": \"not an id\"}",
+            "{\"executor\": {\"id\": \"550e8400-e29b-41d4-a716-446655440000\"}}",
+            "{\"id\": \"550e8400-e29b-41d4-a716-446655440000\"}"
+    })
+    void parse_rejectsInvalidDocuments(String json) {
+        assertThrows(BadRequestException.class, () -> parse(json));
+    }
+
+    @Test
+    void parse_rejectsTooLongDescription() {
+        assertThrows(BadRequestException.class, () -> parse("{\"description\": \"" + "d".repeat(257) + "\"}"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.api.service.validation;
+
+import com.api.config.enums.Role;
+import com.api.entity.User;
+import com.api.repository.UserRepository;
+import com.api.security.PasswordVerifier;
+import com.api.service.cache.UserByEmailCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserValidatorTest {
+
+    private UserRepository userRepository;
+    private PasswordVerifier passwordVerifier;
+    private UserValidator validator;
+    private User cached;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordVerifier = mock(PasswordVerifier.class);
+        validator = new UserValidator(userRepository, mock(UserByEmailCache.class), passwordVerifier);
+        cached = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Name Surname")
+                .email("user@gmail.com")
+                .password("123_password")
+                .role(Role.USER)
+                .build();
+        when(passwordVerifier.verify("123_password", "123_password"))
+                .thenReturn(new PasswordVerifier.Result(true, "{bcrypt}hash"));
+    }
+
+    @Test
+    void upgradedHashIsSavedOnCopyOfCachedUser() {
+        assertTrue(validator.doesUserPasswordEqualTo(cached, "123_password"));
+
+        assertEquals("123_password", cached.getPassword());
+        verify(userRepository).save(argThat(saved -> saved != cached
+                && saved.getId().equals(cached.getId())
+                && saved.getEmail().equals(cached.getEmail())
+                && saved.getRole() == cached.getRole()
+                && saved.getPassword().equals("{bcrypt}hash")));
+    }
+
+    @Test
+    void failedUpgradeKeepsCachedUserAndLogin() {
+        when(userRepository.save(any())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        assertTrue(validator.doesUserPasswordEqualTo(cached, "123_password"));
+        assertEquals("123_password", cached.getPassword());
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.util;
+
+import com.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorsTest {
+
+    @Test
+    void cursorRoundTripsTheId() {
+        UUID id = UUID.randomUUID();
+
+        String cursor = Cursors.encode(id);
+
+        assertEquals(22, cursor.length());
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertEquals(id, Cursors.decode(cursor));
+    }
+
+    @Test
+    void emptyCursorStartsFromTheFirstRow() {
+        assertEquals(Cursors.START, Cursors.decode(""));
+        assertEquals(Cursors.START, Cursors.decode(null));
+    }
+
+    @Test
+    void foreignCursorIsBadRequest() {
+        assertThrows(BadRequestException.class, () -> Cursors.decode("not a cursor!"));
+        assertThrows(BadRequestException.class, () -> Cursors.decode("AAAA"));
+    }
+}
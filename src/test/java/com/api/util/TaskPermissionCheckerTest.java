@@ -0,0 +1,146 @@
+package com.api.util;
+
+import com.api.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskPermissionCheckerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long TTL = 5_000;
+
+    private TaskRepository taskRepository;
+    private MutableClock clock;
+    private TaskPermissionChecker checker;
+    private UUID taskId;
+
+    static class MutableClock extends Clock {
+        long millis = NOW;
+
+        @Override
+        public ZoneOffset getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return Instant.ofEpochMilli(millis); }
+    }
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        clock = new MutableClock();
+        checker = new TaskPermissionChecker(taskRepository, 2, TTL, clock);
+        taskId = UUID.randomUUID();
+        when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of("executor@gmail.com"));
+    }
+
+    @Test
+    void executorIsCachedAfterFirstCheck() {
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertFalse(checker.isTaskExecutor(taskId, "other@gmail.com"));
+
+        verify(taskRepository, times(1)).findExecutorEmailById(taskId);
+        assertEquals(2, checker.getHits());
+        assertEquals(1, checker.getMisses());
+    }
+
+    @Test
+    void unknownTaskIsDeniedWithoutThrowingAndNotCached() {
+        UUID unknown = UUID.randomUUID();
+
+        assertFalse(checker.isTaskExecutor(unknown, "executor@gmail.com"));
+        assertFalse(checker.isTaskExecutor(unknown, "executor@gmail.com"));
+
+        verify(taskRepository, times(2)).findExecutorEmailById(unknown);
+        assertEquals(0, checker.size());
+    }
+
+    @Test
+    void invalidateReloadsNewExecutor() {
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of("new@gmail.com"));
+
+        checker.invalidate(taskId);
+
+        assertFalse(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertTrue(checker.isTaskExecutor(taskId, "new@gmail.com"));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i < 5; i++) {
+            UUID id = UUID.randomUUID();
+            when(taskRepository.findExecutorEmailById(id)).thenReturn(Optional.of("executor@gmail.com"));
+            assertTrue(checker.isTaskExecutor(id, "executor@gmail.com"));
+        }
+
+        assertTrue(checker.size() <= 2);
+    }
+
+    @Test
+    void executorLoadedDuringInvalidationIsNotKept() {
+        when(taskRepository.findExecutorEmailById(taskId)).thenAnswer(invocation -> {
+            checker.invalidate(taskId);
+            return Optional.of("executor@gmail.com");
+        });
+
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+
+        assertEquals(0, checker.size());
+    }
+
+    @Test
+    void expiredExecutorIsReadAgain() {
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of("new@gmail.com"));
+
+        clock.millis = NOW + TTL - 1;
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+
+        clock.millis = NOW + TTL;
+        assertFalse(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertTrue(checker.isTaskExecutor(taskId, "new@gmail.com"));
+        assertEquals(1, checker.size());
+    }
+
+    @Test
+    void reassignmentOnAnotherInstanceIsSeenAfterTtl() {
+        TaskPermissionChecker other = new TaskPermissionChecker(taskRepository, 2, TTL, clock);
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertTrue(other.isTaskExecutor(taskId, "executor@gmail.com"));
+
+        when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.of("new@gmail.com"));
+        checker.invalidate(taskId);
+
+        assertFalse(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertTrue(other.isTaskExecutor(taskId, "executor@gmail.com"));
+
+        clock.millis = NOW + TTL;
+        assertFalse(other.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertTrue(other.isTaskExecutor(taskId, "new@gmail.com"));
+    }
+
+    @Test
+    void expiredExecutorOfDeletedTaskIsDropped() {
+        assertTrue(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        when(taskRepository.findExecutorEmailById(taskId)).thenReturn(Optional.empty());
+
+        clock.millis = NOW + TTL;
+
+        assertFalse(checker.isTaskExecutor(taskId, "executor@gmail.com"));
+        assertEquals(0, checker.size());
+    }
+}